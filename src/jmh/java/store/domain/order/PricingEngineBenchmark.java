@@ -0,0 +1,88 @@
+package store.domain.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.domain.membershop.Membership;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+	private static final int LEGACY_DISCOUNT_RATE = 30;
+	private static final int LEGACY_MAXIMUM_DISCOUNT_AMOUNT = 8_000;
+
+	@Param({"5", "500"})
+	private int lineCount;
+
+	private List<OrderLineItem> orderLineItems;
+	private PricingBatch batch;
+	private PricingEngine pricingEngine;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(lineCount);
+		orderLineItems = new ArrayList<>(lineCount);
+		batch = PricingBatch.withCapacity(lineCount);
+		for (int index = 0; index < lineCount; index++) {
+			OrderLineItem item = createItem(random, index);
+			orderLineItems.add(item);
+			batch.add(item);
+		}
+		pricingEngine = PricingEngine.from(Membership.create());
+	}
+
+	private OrderLineItem createItem(Random random, int index) {
+		int quantity = 1 + random.nextInt(20);
+		int unitPrice = 100 * (1 + random.nextInt(50));
+		if (random.nextBoolean()) {
+			return OrderLineItem.of("상품" + index, quantity, unitPrice, quantity, 0, quantity / 3, true);
+		}
+		return OrderLineItem.of("상품" + index, quantity, unitPrice, 0, quantity, 0, false);
+	}
+
+	@Benchmark
+	public long legacyStreams() {
+		int totalAmount = orderLineItems.stream()
+			.mapToInt(item -> item.getTotalQuantity() * item.getUnitPrice())
+			.sum();
+		int promotionDiscount = orderLineItems.stream()
+			.filter(OrderLineItem::isPromotionApplied)
+			.mapToInt(item -> item.getFreeQuantity() * item.getUnitPrice())
+			.sum();
+		int normalAmount = orderLineItems.stream()
+			.filter(item -> !item.isPromotionApplied())
+			.mapToInt(item -> item.getNormalQuantity() * item.getUnitPrice())
+			.sum();
+		int membershipDiscount = Math.min((int)(normalAmount * LEGACY_DISCOUNT_RATE / 100.0),
+			LEGACY_MAXIMUM_DISCOUNT_AMOUNT);
+		return totalAmount - promotionDiscount - membershipDiscount;
+	}
+
+	@Benchmark
+	public long engineList() {
+		return pricingEngine.price(orderLineItems, true).finalAmount();
+	}
+
+	@Benchmark
+	public long engineBatch() {
+		return pricingEngine.price(batch, true).finalAmount();
+	}
+}
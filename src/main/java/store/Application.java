@@ -5,7 +5,20 @@ import store.io.IoHandler;
 public class Application {
 	public static void main(String[] args) {
 		IoHandler ioHandler = IoHandler.getInstance();
-		ConvenienceStoreManager convenienceStoreManager = ConvenienceStoreManager.from(ioHandler);
+		StoreOptions options = StoreOptions.from(args);
+		ConvenienceStoreManager convenienceStoreManager = ConvenienceStoreManager.from(ioHandler, options);
+		if (options.hasSessionPort()) {
+			convenienceStoreManager.runSessionServer(options.sessionPort());
+			return;
+		}
+		if (options.hasHttpPort()) {
+			convenienceStoreManager.runHttpServer(options.httpPort());
+			return;
+		}
+		if (options.hasBatch()) {
+			convenienceStoreManager.runBatch(options.batchPath());
+			return;
+		}
 		convenienceStoreManager.run();
 	}
 }
@@ -1,137 +1,245 @@
 package store;
 
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 
+import store.api.CheckoutHttpServer;
+import store.api.CheckoutService;
+import store.batch.BatchCheckout;
+import store.batch.BatchSummary;
+import store.checkout.Checkout;
+import store.checkout.CheckoutDecisionPolicy;
+import store.checkout.ConsoleDecisionPolicy;
+import store.checkout.FixedDecisionPolicy;
 import store.domain.membershop.Membership;
 import store.domain.order.Order;
 import store.domain.order.OrderItem;
-import store.domain.order.OrderLineItem;
+import store.domain.product.PrimitiveProductInfo;
 import store.domain.product.Product;
-import store.domain.product.PromotionOrderResult;
-import store.domain.product.PromotionOrderStatus;
+import store.domain.promotion.PrimitivePromotionInfo;
 import store.domain.promotion.Promotions;
+import store.domain.stock.ReservationReaper;
 import store.domain.stock.Stock;
+import store.domain.stock.StockJournal;
+import store.domain.stock.StockReservation;
 import store.io.IoHandler;
+import store.io.ProductListingRenderer;
+import store.io.batch.BatchSummaryWriter;
+import store.io.catalog.BinaryCatalogLoader;
+import store.io.catalog.StoreCatalog;
+import store.io.journal.FileStockJournal;
+import store.io.receipt.FileSpoolReceiptSink;
+import store.session.SessionServer;
 
 public class ConvenienceStoreManager {
 	private static final String PRODUCT_FILE_PATH_NAME = "/products.md";
 	private static final String PROMOTION_FILE_PATH_NAME = "/promotions.md";
+	private static final String PRODUCT_FILE_NAME = "products.md";
+	private static final String PROMOTION_FILE_NAME = "promotions.md";
+	private static final Duration RESERVATION_REAPER_INTERVAL = Duration.ofSeconds(30);
+	private static final Duration SNAPSHOT_INTERVAL = Duration.ofMinutes(1);
+	private static final long RECEIPT_SPOOL_ROLL_SIZE = 1L << 20;
 
 	private final IoHandler ioHandler;
 	private final Promotions promotions;
 	private final Stock stock;
 	private final Membership membership;
+	private final StockJournal journal;
+	private final Checkout checkout;
+	private final CheckoutDecisionPolicy decisionPolicy;
+	private final ProductListingRenderer productListingRenderer;
 
-	private ConvenienceStoreManager(IoHandler ioHandler, Promotions promotions, Stock stock, Membership membership) {
+	private ConvenienceStoreManager(IoHandler ioHandler, Promotions promotions, Stock stock, Membership membership,
+		StockJournal journal, CheckoutDecisionPolicy decisionPolicy, ProductListingRenderer productListingRenderer) {
 		this.ioHandler = ioHandler;
 		this.promotions = promotions;
 		this.stock = stock;
 		this.membership = membership;
+		this.journal = journal;
+		this.checkout = Checkout.of(stock, membership);
+		this.decisionPolicy = decisionPolicy;
+		this.productListingRenderer = productListingRenderer;
 	}
 
 	public static ConvenienceStoreManager from(IoHandler ioHandler) {
-		Promotions promotions = Promotions.from(ioHandler.getPrimitivePromotionInfos(PROMOTION_FILE_PATH_NAME));
-		List<Product> products = ioHandler.getPrimitiveProductInfos(PRODUCT_FILE_PATH_NAME).stream()
-			.map(info -> Product.of(info, promotions.findByName(info.promotion())))
-			.toList();
+		return from(ioHandler, StoreOptions.defaults());
+	}
 
-		Stock stock = Stock.from(products);
+	public static ConvenienceStoreManager from(IoHandler ioHandler, StoreOptions options) {
+		return from(ioHandler, options, createDecisionPolicy(ioHandler, options));
+	}
+
+	public static ConvenienceStoreManager from(IoHandler ioHandler, StoreOptions options,
+		CheckoutDecisionPolicy decisionPolicy) {
+		StoreCatalog catalog = loadCatalog(ioHandler, options);
 		Membership membership = Membership.create();
-		return new ConvenienceStoreManager(ioHandler, promotions, stock, membership);
+		StockJournal journal = openJournal(catalog.stock(), options);
+		return new ConvenienceStoreManager(openReceiptSink(ioHandler, options), catalog.promotions(),
+			catalog.stock(), membership, journal, decisionPolicy, ProductListingRenderer.of(catalog.stock()));
 	}
 
-	public void run() {
-		while (true) {
-			ioHandler.showSellingProducts(stock.getProducts());
-			Order order = createOrder();
-			ioHandler.showReceipt(order);
-			stock.deductStocks(order.getOrderLineItems());
-			if (getContinueAnswer().equals("N")) {
-				return;
-			}
+	private static CheckoutDecisionPolicy createDecisionPolicy(IoHandler ioHandler, StoreOptions options) {
+		if (options.hasDecisionRules()) {
+			return FixedDecisionPolicy.from(options.decisionRules());
 		}
+		return ConsoleDecisionPolicy.from(ioHandler);
 	}
 
-	private Order createOrder() {
-		List<OrderItem> validOrderItems = getOrderItems();
-		List<OrderLineItem> orderLineItems = getOrderLineItems(validOrderItems);
-		String hasMembership = getApplyMembershipAnswer();
-		return Order.of(orderLineItems, membership, hasMembership);
+	private static IoHandler openReceiptSink(IoHandler ioHandler, StoreOptions options) {
+		if (options.hasReceiptSpool()) {
+			return ioHandler.withReceiptSink(FileSpoolReceiptSink.open(options.receiptSpoolPath(),
+				RECEIPT_SPOOL_ROLL_SIZE));
+		}
+		if (options.hasBatch()) {
+			return ioHandler.withReceiptSink(FileSpoolReceiptSink.open(options.batchReceiptPath(),
+				RECEIPT_SPOOL_ROLL_SIZE));
+		}
+		return ioHandler;
 	}
 
-	private List<OrderItem> getOrderItems() {
-		while (true) {
-			try {
-				List<OrderItem> orderItems = ioHandler.getOrderItems();
-				stock.validateOrderItems(orderItems);
-				return orderItems;
-			} catch (IllegalStateException invalidOrderItems) {
-				ioHandler.showExceptionMessage(invalidOrderItems.getMessage());
-			}
+	private static StoreCatalog loadCatalog(IoHandler ioHandler, StoreOptions options) {
+		if (options.hasBinaryCatalog()) {
+			return BinaryCatalogLoader.load(options.catalogPath());
 		}
+		Promotions promotions = Promotions.from(readPromotionInfos(ioHandler, options));
+		List<Product> products = readProductInfos(ioHandler, options).stream()
+			.map(info -> Product.of(info, promotions.findByName(info.promotion())))
+			.toList();
+		return new StoreCatalog(promotions, Stock.from(products));
 	}
 
-	private List<OrderLineItem> getOrderLineItems(List<OrderItem> validOrderItems) {
-		return validOrderItems.stream()
-			.map(this::createOrderLineItem)
-			.toList();
+	private static List<PrimitivePromotionInfo> readPromotionInfos(IoHandler ioHandler, StoreOptions options) {
+		if (options.hasCatalog()) {
+			return ioHandler.getPrimitivePromotionInfos(options.catalogPath().resolve(PROMOTION_FILE_NAME));
+		}
+		return ioHandler.getPrimitivePromotionInfos(PROMOTION_FILE_PATH_NAME);
 	}
 
-	private OrderLineItem createOrderLineItem(OrderItem orderItem) {
-		if (stock.isPromotionAndValidPromotion(orderItem)) {
-			return getPromotionProductInfo(orderItem);
+	private static List<PrimitiveProductInfo> readProductInfos(IoHandler ioHandler, StoreOptions options) {
+		if (options.hasCatalog()) {
+			return ioHandler.getPrimitiveProductInfos(options.catalogPath().resolve(PRODUCT_FILE_NAME));
 		}
-		return stock.getNormalProductInfo(orderItem);
+		return ioHandler.getPrimitiveProductInfos(PRODUCT_FILE_PATH_NAME);
 	}
 
-	private OrderLineItem getPromotionProductInfo(OrderItem orderItem) {
-		PromotionOrderStatus promotionOrderStatus = stock.getPromotionOrderStatus(orderItem);
+	private static StockJournal openJournal(Stock stock, StoreOptions options) {
+		if (!options.hasJournal()) {
+			return null;
+		}
+		StockJournal journal = FileStockJournal.open(options.journalPath(), options.snapshotPath(),
+			SNAPSHOT_INTERVAL, stock);
+		stock.attach(journal);
+		return journal;
+	}
 
-		if (promotionOrderStatus.result() == PromotionOrderResult.INSUFFICIENT_STOCK) {
-			return handleInsufficientStock(orderItem, promotionOrderStatus);
+	public void run() {
+		ReservationReaper reservationReaper = ReservationReaper.start(stock, RESERVATION_REAPER_INTERVAL);
+		try {
+			runCheckouts();
+		} finally {
+			reservationReaper.stop();
+			ioHandler.closeReceiptSink();
+			closeJournal();
 		}
+	}
 
-		if (promotionOrderStatus.result() == PromotionOrderResult.BELOW_QUANTITY) {
-			return handleBelowQuantity(orderItem, promotionOrderStatus);
+	public BatchSummary runBatch(Path ordersPath) {
+		try {
+			BatchSummary summary = BatchCheckout.of(checkout, stock, ioHandler::showReceipt).run(ordersPath);
+			BatchSummaryWriter.write(StoreOptions.batchSummaryPath(ordersPath), summary);
+			return summary;
+		} finally {
+			ioHandler.closeReceiptSink();
+			closeJournal();
 		}
+	}
 
-		return handleExactQuantity(orderItem, promotionOrderStatus);
+	public CheckoutHttpServer runHttpServer(int port) {
+		CheckoutHttpServer server = CheckoutHttpServer.start(new InetSocketAddress(port),
+			CheckoutService.of(stock, checkout, ioHandler::showReceipt));
+		Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().unstarted(() -> stopHttpServer(server)));
+		return server;
 	}
 
-	private OrderLineItem handleInsufficientStock(OrderItem orderItem, PromotionOrderStatus status) {
-		String answer = getInsufficientStockAnswer(orderItem.name(), status.displayQuantity());
-		if (answer.equals("N")) {
-			return OrderLineItem.ofPromotionOnly(orderItem.name(), status);
-		}
-		return OrderLineItem.ofMixedQuantity(orderItem.name(), status);
+	public SessionServer runSessionServer(int port) {
+		SessionServer server = SessionServer.start(new InetSocketAddress(port), this::serveSession);
+		ReservationReaper reservationReaper = ReservationReaper.start(stock, RESERVATION_REAPER_INTERVAL);
+		Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().unstarted(() ->
+			stopSessionServer(server, reservationReaper)));
+		return server;
+	}
+
+	public void serveSession(IoHandler sessionIoHandler) {
+		new ConvenienceStoreManager(sessionIoHandler, promotions, stock, membership, journal,
+			ConsoleDecisionPolicy.from(sessionIoHandler), productListingRenderer).runCheckouts();
+	}
+
+	private void stopSessionServer(SessionServer server, ReservationReaper reservationReaper) {
+		server.stop();
+		reservationReaper.stop();
+		closeJournal();
 	}
 
-	private String getInsufficientStockAnswer(String name, int quantity) {
-		return ioHandler.getNonDisCount(name, quantity);
+	private void stopHttpServer(CheckoutHttpServer server) {
+		server.stop();
+		ioHandler.closeReceiptSink();
+		closeJournal();
 	}
 
-	private OrderLineItem handleBelowQuantity(OrderItem orderItem, PromotionOrderStatus status) {
-		String answer = getBlowStockAnswer(orderItem.name(), status.additionalQuantity());
+	private void closeJournal() {
+		if (journal != null) {
+			journal.close();
+		}
+	}
+
+	private void runCheckouts() {
+		while (true) {
+			ioHandler.showSellingProducts(productListingRenderer);
+			checkout(reserveOrderItems());
+			if (getContinueAnswer().equals("N")) {
+				return;
+			}
+		}
+	}
 
-		if (answer.equals("Y")) {
-			return OrderLineItem.ofAdditionalQuantity(orderItem, status);
+	private void checkout(StockReservation reservation) {
+		try {
+			showReceipt(completeOrder(reservation));
+		} catch (IllegalStateException outOfStock) {
+			ioHandler.showExceptionMessage(outOfStock.getMessage());
 		}
-		return OrderLineItem.ofNonPromotional(orderItem.name(), status);
 	}
 
-	private String getBlowStockAnswer(String name, int quantity) {
-		return ioHandler.getApplyPromotion(name, quantity);
+	private Order completeOrder(StockReservation reservation) {
+		try {
+			return checkout.complete(reservation, decisionPolicy);
+		} finally {
+			stock.release(reservation);
+		}
 	}
 
-	private OrderLineItem handleExactQuantity(OrderItem orderItem, PromotionOrderStatus status) {
-		return OrderLineItem.ofExactPromotion(orderItem.name(), status);
+	private void showReceipt(Order order) {
+		try {
+			ioHandler.showReceipt(order);
+		} catch (IllegalStateException receiptFailure) {
+			ioHandler.showExceptionMessage(receiptFailure.getMessage());
+		}
 	}
 
-	private String getApplyMembershipAnswer() {
-		return ioHandler.getApplyMembership();
+	private StockReservation reserveOrderItems() {
+		while (true) {
+			try {
+				List<OrderItem> orderItems = ioHandler.getOrderItems();
+				return stock.reserve(orderItems);
+			} catch (IllegalStateException invalidOrderItems) {
+				ioHandler.showExceptionMessage(invalidOrderItems.getMessage());
+			}
+		}
 	}
 
 	private String getContinueAnswer() {
-		return ioHandler.getContinue();
+		return decisionPolicy.getContinue();
 	}
 }
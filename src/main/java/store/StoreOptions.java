@@ -0,0 +1,105 @@
+package store;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public record StoreOptions(
+	Path journalPath,
+	Path catalogPath,
+	Path receiptSpoolPath,
+	Path batchPath,
+	String decisionRules,
+	Integer httpPort,
+	Integer sessionPort
+) {
+	private static final String JOURNAL_OPTION = "--journal=";
+	private static final String CATALOG_OPTION = "--catalog=";
+	private static final String RECEIPT_SPOOL_OPTION = "--receipt-spool=";
+	private static final String BATCH_OPTION = "--batch=";
+	private static final String DECISION_OPTION = "--decisions=";
+	private static final String HTTP_PORT_OPTION = "--http-port=";
+	private static final String SESSION_PORT_OPTION = "--session-port=";
+	private static final String SNAPSHOT_SUFFIX = ".snapshot";
+	private static final String BATCH_SUMMARY_SUFFIX = ".summary";
+	private static final String BATCH_RECEIPT_SUFFIX = ".receipts";
+
+	public static StoreOptions defaults() {
+		return new StoreOptions(null, null, null, null, null, null, null);
+	}
+
+	public static StoreOptions from(String[] args) {
+		return new StoreOptions(findPath(args, JOURNAL_OPTION), findPath(args, CATALOG_OPTION),
+			findPath(args, RECEIPT_SPOOL_OPTION), findPath(args, BATCH_OPTION), findValue(args, DECISION_OPTION),
+			findPort(args, HTTP_PORT_OPTION), findPort(args, SESSION_PORT_OPTION));
+	}
+
+	private static Integer findPort(String[] args, String option) {
+		String value = findValue(args, option);
+		if (value == null) {
+			return null;
+		}
+		return Integer.valueOf(value);
+	}
+
+	private static Path findPath(String[] args, String option) {
+		String value = findValue(args, option);
+		if (value == null) {
+			return null;
+		}
+		return Path.of(value);
+	}
+
+	private static String findValue(String[] args, String option) {
+		String value = null;
+		for (String arg : args) {
+			if (arg.startsWith(option)) {
+				value = arg.substring(option.length());
+			}
+		}
+		return value;
+	}
+
+	public boolean hasJournal() {
+		return journalPath != null;
+	}
+
+	public Path snapshotPath() {
+		return journalPath.resolveSibling(journalPath.getFileName() + SNAPSHOT_SUFFIX);
+	}
+
+	public boolean hasCatalog() {
+		return catalogPath != null;
+	}
+
+	public boolean hasBinaryCatalog() {
+		return hasCatalog() && Files.isRegularFile(catalogPath);
+	}
+
+	public boolean hasReceiptSpool() {
+		return receiptSpoolPath != null;
+	}
+
+	public boolean hasBatch() {
+		return batchPath != null;
+	}
+
+	public Path batchReceiptPath() {
+		return batchPath.resolveSibling(batchPath.getFileName() + BATCH_RECEIPT_SUFFIX);
+	}
+
+	public static Path batchSummaryPath(Path ordersPath) {
+		return ordersPath.resolveSibling(ordersPath.getFileName() + BATCH_SUMMARY_SUFFIX);
+	}
+
+	public boolean hasDecisionRules() {
+		return decisionRules != null;
+	}
+
+	public boolean hasHttpPort() {
+		return httpPort != null;
+	}
+
+	public boolean hasSessionPort() {
+		return sessionPort != null;
+	}
+}
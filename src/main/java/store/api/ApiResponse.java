@@ -0,0 +1,21 @@
+package store.api;
+
+import java.util.Map;
+
+record ApiResponse(int status, String contentType, String body) {
+	private static final String JSON = "application/json; charset=utf-8";
+	private static final String TEXT = "text/plain; charset=utf-8";
+	private static final String ERROR_FIELD = "error";
+
+	static ApiResponse json(int status, Object body) {
+		return new ApiResponse(status, JSON, Json.write(body));
+	}
+
+	static ApiResponse text(int status, CharSequence body) {
+		return new ApiResponse(status, TEXT, body.toString());
+	}
+
+	static ApiResponse error(int status, String message) {
+		return json(status, Map.of(ERROR_FIELD, message));
+	}
+}
@@ -0,0 +1,111 @@
+package store.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import store.checkout.ItemQuote;
+import store.checkout.OrderQuote;
+import store.domain.order.Order;
+import store.domain.order.OrderLineItem;
+import store.domain.order.OrderSummary;
+import store.domain.product.Product;
+import store.domain.product.PromotionOrderStatus;
+import store.domain.stock.CatalogPage;
+
+final class ApiViews {
+	static final String APPLY_PROMOTION_QUESTION = "promotion";
+	static final String NON_DISCOUNT_QUESTION = "nonDiscount";
+
+	private ApiViews() {
+	}
+
+	static Map<String, Object> page(CatalogPage page) {
+		Map<String, Object> view = new LinkedHashMap<>();
+		view.put("products", page.products().stream().map(ApiViews::product).toList());
+		view.put("nextCursor", page.nextCursor());
+		return view;
+	}
+
+	static Map<String, Object> product(Product product) {
+		Map<String, Object> view = new LinkedHashMap<>();
+		view.put("name", product.getName());
+		view.put("price", product.getPrice());
+		view.put("quantity", product.getQuantity());
+		view.put("promotion", promotionName(product));
+		return view;
+	}
+
+	private static String promotionName(Product product) {
+		if (!product.hasPromotion()) {
+			return null;
+		}
+		return product.getPromotion().getName();
+	}
+
+	static Map<String, Object> order(Order order) {
+		Map<String, Object> view = new LinkedHashMap<>();
+		view.put("items", order.getOrderLineItems().stream().map(ApiViews::lineItem).toList());
+		OrderSummary summary = order.getSummary();
+		view.put("totalQuantity", summary.totalQuantity());
+		view.put("totalAmount", summary.totalAmount());
+		view.put("promotionDiscount", summary.promotionDiscount());
+		view.put("membershipDiscount", summary.membershipDiscount());
+		view.put("finalAmount", summary.finalAmount());
+		return view;
+	}
+
+	static Map<String, Object> orderQuote(OrderQuote orderQuote) {
+		Map<String, Object> view = new LinkedHashMap<>();
+		view.put("promotions", orderQuote.itemQuotes().stream().map(ApiViews::itemQuote).toList());
+		view.putAll(order(orderQuote.order()));
+		return view;
+	}
+
+	private static Map<String, Object> itemQuote(ItemQuote itemQuote) {
+		Map<String, Object> view = new LinkedHashMap<>();
+		view.put("name", itemQuote.orderItem().name());
+		view.put("quantity", itemQuote.orderItem().quantity());
+		view.put("question", question(itemQuote));
+		if (itemQuote.hasPromotion()) {
+			view.putAll(promotionOrderStatus(itemQuote.promotionOrderStatus()));
+		}
+		return view;
+	}
+
+	private static String question(ItemQuote itemQuote) {
+		if (itemQuote.asksApplyPromotion()) {
+			return APPLY_PROMOTION_QUESTION;
+		}
+		if (itemQuote.asksNonDisCount()) {
+			return NON_DISCOUNT_QUESTION;
+		}
+		return null;
+	}
+
+	private static Map<String, Object> promotionOrderStatus(PromotionOrderStatus status) {
+		Map<String, Object> view = new LinkedHashMap<>();
+		view.put("result", status.result().name());
+		view.put("displayQuantity", status.displayQuantity());
+		view.put("promotionQuantity", status.promotionQuantity());
+		view.put("normalQuantity", status.normalQuantity());
+		view.put("additionalQuantity", status.additionalQuantity());
+		view.put("unitPrice", status.unitPrice());
+		return view;
+	}
+
+	static Map<String, Object> committedOrder(CommittedOrder committedOrder) {
+		Map<String, Object> view = new LinkedHashMap<>();
+		view.put("receiptId", committedOrder.receiptId());
+		view.putAll(order(committedOrder.order()));
+		return view;
+	}
+
+	private static Map<String, Object> lineItem(OrderLineItem lineItem) {
+		Map<String, Object> view = new LinkedHashMap<>();
+		view.put("name", lineItem.getName());
+		view.put("quantity", lineItem.getTotalQuantity());
+		view.put("unitPrice", lineItem.getUnitPrice());
+		view.put("freeQuantity", lineItem.getFreeQuantity());
+		return view;
+	}
+}
@@ -0,0 +1,46 @@
+package store.api;
+
+import java.util.LinkedHashMap;
+
+class BoundedMap<K, V> {
+	private final int capacity;
+	private final LinkedHashMap<K, V> entries;
+
+	private BoundedMap(int capacity) {
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<>();
+	}
+
+	static <K, V> BoundedMap<K, V> withCapacity(int capacity) {
+		return new BoundedMap<>(capacity);
+	}
+
+	synchronized V get(K key) {
+		return entries.get(key);
+	}
+
+	synchronized void put(K key, V value) {
+		entries.put(key, value);
+		evictOverflow();
+	}
+
+	synchronized V putIfAbsent(K key, V value) {
+		V previous = entries.putIfAbsent(key, value);
+		evictOverflow();
+		return previous;
+	}
+
+	synchronized boolean remove(K key, V value) {
+		return entries.remove(key, value);
+	}
+
+	synchronized int size() {
+		return entries.size();
+	}
+
+	private void evictOverflow() {
+		while (entries.size() > capacity) {
+			entries.pollFirstEntry();
+		}
+	}
+}
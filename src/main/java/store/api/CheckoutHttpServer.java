@@ -0,0 +1,222 @@
+package store.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import store.checkout.CheckoutDecisionPolicy;
+import store.checkout.ChoiceDecisionPolicy;
+import store.checkout.FixedDecisionPolicy;
+import store.checkout.OrderQuote;
+import store.domain.order.Order;
+import store.domain.order.OrderItem;
+import store.domain.stock.CatalogQuery;
+import store.io.ReceiptRenderer;
+import store.validator.checkout.CheckoutValidateMessage;
+import store.validator.input.InputValidatingParser;
+import store.validator.stock.StockValidateMessage;
+
+public class CheckoutHttpServer {
+	private static final int BACKLOG = 4096;
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int OK = 200;
+	private static final int CREATED = 201;
+	private static final int BAD_REQUEST = 400;
+	private static final int NOT_FOUND = 404;
+	private static final int METHOD_NOT_ALLOWED = 405;
+	private static final int CONFLICT = 409;
+	private static final String GET = "GET";
+	private static final String POST = "POST";
+	private static final String PREFIX_ROUTE_SUFFIX = "/";
+	private static final String CONTAINS_MATCH = "contains";
+	private static final String MEMBERSHIP_PARAMETER = "membership";
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final CheckoutService checkoutService;
+	private final InputValidatingParser inputValidatingParser;
+
+	private CheckoutHttpServer(HttpServer server, CheckoutService checkoutService) {
+		this.server = server;
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+		this.checkoutService = checkoutService;
+		this.inputValidatingParser = InputValidatingParser.getInstance();
+	}
+
+	public static CheckoutHttpServer start(InetSocketAddress address, CheckoutService checkoutService) {
+		try {
+			CheckoutHttpServer checkoutHttpServer = new CheckoutHttpServer(HttpServer.create(address, BACKLOG),
+				checkoutService);
+			checkoutHttpServer.route();
+			checkoutHttpServer.server.start();
+			return checkoutHttpServer;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void route() {
+		server.setExecutor(executor);
+		server.createContext("/products", exchange -> handle(exchange, GET, this::listProducts));
+		server.createContext("/orders/quote", exchange -> handle(exchange, POST, this::quote));
+		server.createContext("/orders", exchange -> handle(exchange, POST, this::commit));
+		server.createContext("/receipts/", exchange -> handle(exchange, GET, this::findReceipt));
+	}
+
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	public void stop() {
+		server.stop(0);
+		executor.close();
+	}
+
+	private void handle(HttpExchange exchange, String method, Function<HttpExchange, ApiResponse> handler)
+		throws IOException {
+		try (exchange) {
+			send(exchange, respond(exchange, method, handler));
+		}
+	}
+
+	private ApiResponse respond(HttpExchange exchange, String method, Function<HttpExchange, ApiResponse> handler) {
+		if (!isRoutedPath(exchange)) {
+			return ApiResponse.error(NOT_FOUND, CheckoutValidateMessage.INVALID_REQUEST_PATH.getMessage());
+		}
+		if (!exchange.getRequestMethod().equals(method)) {
+			return ApiResponse.error(METHOD_NOT_ALLOWED, CheckoutValidateMessage.INVALID_REQUEST_METHOD.getMessage());
+		}
+		try {
+			return handler.apply(exchange);
+		} catch (IllegalArgumentException invalidRequest) {
+			return ApiResponse.error(BAD_REQUEST, invalidRequest.getMessage());
+		} catch (IllegalStateException rejected) {
+			return ApiResponse.error(CONFLICT, rejected.getMessage());
+		}
+	}
+
+	private boolean isRoutedPath(HttpExchange exchange) {
+		String contextPath = exchange.getHttpContext().getPath();
+		return contextPath.endsWith(PREFIX_ROUTE_SUFFIX) || exchange.getRequestURI().getPath().equals(contextPath);
+	}
+
+	private void send(HttpExchange exchange, ApiResponse response) throws IOException {
+		byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", response.contentType());
+		exchange.sendResponseHeaders(response.status(), body.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+
+	private ApiResponse listProducts(HttpExchange exchange) {
+		QueryParameters parameters = QueryParameters.from(exchange.getRequestURI());
+		CatalogQuery query = CatalogQuery.firstPage(parameters.getInt("size", DEFAULT_PAGE_SIZE,
+			StockValidateMessage.INVALID_PAGE_SIZE.getMessage()));
+		query = applyFilters(applyKeyword(query, parameters), parameters);
+		return ApiResponse.json(OK, ApiViews.page(checkoutService.listProducts(query)));
+	}
+
+	private CatalogQuery applyKeyword(CatalogQuery query, QueryParameters parameters) {
+		if (!parameters.has("keyword")) {
+			return query;
+		}
+		if (CONTAINS_MATCH.equals(parameters.get("match"))) {
+			return query.containing(parameters.get("keyword"));
+		}
+		return query.withPrefix(parameters.get("keyword"));
+	}
+
+	private CatalogQuery applyFilters(CatalogQuery query, QueryParameters parameters) {
+		if (parameters.has("inPromotion")) {
+			query = query.inPromotion();
+		}
+		if (parameters.has("inStock")) {
+			query = query.inStock();
+		}
+		if (parameters.has("cursor")) {
+			query = query.after(parameters.get("cursor"));
+		}
+		return query;
+	}
+
+	private ApiResponse quote(HttpExchange exchange) {
+		OrderQuote orderQuote = checkoutService.quote(readOrderItems(exchange), readDecisionPolicy(exchange));
+		return ApiResponse.json(OK, ApiViews.orderQuote(orderQuote));
+	}
+
+	private ApiResponse commit(HttpExchange exchange) {
+		return ApiResponse.json(CREATED, ApiViews.committedOrder(commitOrder(exchange)));
+	}
+
+	private CommittedOrder commitOrder(HttpExchange exchange) {
+		List<OrderItem> orderItems = readOrderItems(exchange);
+		CheckoutDecisionPolicy policy = readDecisionPolicy(exchange);
+		String idempotencyKey = exchange.getRequestHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+		if (idempotencyKey == null) {
+			return checkoutService.commit(orderItems, policy);
+		}
+		return checkoutService.commit(idempotencyKey, orderItems, policy);
+	}
+
+	private ApiResponse findReceipt(HttpExchange exchange) {
+		Order order = checkoutService.findReceipt(readReceiptId(exchange));
+		if (order == null) {
+			return ApiResponse.error(NOT_FOUND, CheckoutValidateMessage.INVALID_RECEIPT_NOT_FOUND.getMessage());
+		}
+		return ApiResponse.text(OK, ReceiptRenderer.create().render(order));
+	}
+
+	private long readReceiptId(HttpExchange exchange) {
+		String path = exchange.getRequestURI().getPath();
+		try {
+			return Long.parseLong(path.substring(exchange.getHttpContext().getPath().length()));
+		} catch (NumberFormatException invalidId) {
+			return 0;
+		}
+	}
+
+	private List<OrderItem> readOrderItems(HttpExchange exchange) {
+		try (InputStream input = exchange.getRequestBody()) {
+			return inputValidatingParser.validatedOrderItems(new String(input.readAllBytes(), StandardCharsets.UTF_8)
+				.strip());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private CheckoutDecisionPolicy readDecisionPolicy(HttpExchange exchange) {
+		QueryParameters parameters = QueryParameters.from(exchange.getRequestURI());
+		if (hasChoices(parameters)) {
+			return ChoiceDecisionPolicy.from(parameters.get(ApiViews.APPLY_PROMOTION_QUESTION),
+				parameters.get(ApiViews.NON_DISCOUNT_QUESTION), readMembership(parameters));
+		}
+		if (parameters.has("decisions")) {
+			return FixedDecisionPolicy.from(parameters.get("decisions"));
+		}
+		return FixedDecisionPolicy.asOrdered();
+	}
+
+	private boolean hasChoices(QueryParameters parameters) {
+		return parameters.has(ApiViews.APPLY_PROMOTION_QUESTION) || parameters.has(ApiViews.NON_DISCOUNT_QUESTION)
+			|| parameters.has(MEMBERSHIP_PARAMETER);
+	}
+
+	private String readMembership(QueryParameters parameters) {
+		if (!parameters.has(MEMBERSHIP_PARAMETER)) {
+			return "N";
+		}
+		return parameters.get(MEMBERSHIP_PARAMETER);
+	}
+}
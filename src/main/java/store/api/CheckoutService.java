@@ -0,0 +1,121 @@
+package store.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import store.checkout.Checkout;
+import store.checkout.CheckoutDecisionPolicy;
+import store.checkout.OrderQuote;
+import store.domain.order.Order;
+import store.domain.order.OrderItem;
+import store.domain.stock.CatalogPage;
+import store.domain.stock.CatalogQuery;
+import store.domain.stock.Stock;
+import store.domain.stock.StockReservation;
+import store.validator.checkout.CheckoutValidateMessage;
+
+public class CheckoutService {
+	private static final int IDEMPOTENCY_KEY_CAPACITY = 100_000;
+	private static final int RECEIPT_CAPACITY = 100_000;
+
+	private final Stock stock;
+	private final Checkout checkout;
+	private final Consumer<Order> receiptConsumer;
+	private final BoundedMap<Long, Order> receipts;
+	private final AtomicLong receiptSequence;
+	private final BoundedMap<String, IdempotentCommit> idempotentCommits;
+
+	private CheckoutService(Stock stock, Checkout checkout, Consumer<Order> receiptConsumer) {
+		this.stock = stock;
+		this.checkout = checkout;
+		this.receiptConsumer = receiptConsumer;
+		this.receipts = BoundedMap.withCapacity(RECEIPT_CAPACITY);
+		this.receiptSequence = new AtomicLong();
+		this.idempotentCommits = BoundedMap.withCapacity(IDEMPOTENCY_KEY_CAPACITY);
+	}
+
+	public static CheckoutService of(Stock stock, Checkout checkout, Consumer<Order> receiptConsumer) {
+		return new CheckoutService(stock, checkout, receiptConsumer);
+	}
+
+	public CatalogPage listProducts(CatalogQuery query) {
+		return stock.query(query);
+	}
+
+	public OrderQuote quote(List<OrderItem> orderItems, CheckoutDecisionPolicy policy) {
+		return checkout.quote(orderItems, policy);
+	}
+
+	public CommittedOrder commit(String idempotencyKey, List<OrderItem> orderItems, CheckoutDecisionPolicy policy) {
+		IdempotentCommit request = new IdempotentCommit(orderItems, policy, new CompletableFuture<>());
+		IdempotentCommit previous = idempotentCommits.putIfAbsent(idempotencyKey, request);
+		if (previous != null) {
+			return replay(previous, request);
+		}
+		return publish(commitOnce(idempotencyKey, request));
+	}
+
+	private CommittedOrder replay(IdempotentCommit previous, IdempotentCommit request) {
+		if (!previous.matches(request)) {
+			throw new IllegalArgumentException(CheckoutValidateMessage.INVALID_IDEMPOTENCY_KEY_REUSED.getMessage());
+		}
+		try {
+			return previous.result().join();
+		} catch (CompletionException failed) {
+			throw (RuntimeException)failed.getCause();
+		}
+	}
+
+	private CommittedOrder commitOnce(String idempotencyKey, IdempotentCommit request) {
+		try {
+			CommittedOrder committedOrder = checkoutAndStore(request.orderItems(), request.policy());
+			request.result().complete(committedOrder);
+			return committedOrder;
+		} catch (RuntimeException failure) {
+			idempotentCommits.remove(idempotencyKey, request);
+			request.result().completeExceptionally(failure);
+			throw failure;
+		}
+	}
+
+	public CommittedOrder commit(List<OrderItem> orderItems, CheckoutDecisionPolicy policy) {
+		return publish(checkoutAndStore(orderItems, policy));
+	}
+
+	private CommittedOrder checkoutAndStore(List<OrderItem> orderItems, CheckoutDecisionPolicy policy) {
+		StockReservation reservation = stock.reserve(orderItems);
+		try {
+			return store(checkout.complete(reservation, policy));
+		} finally {
+			stock.release(reservation);
+		}
+	}
+
+	private CommittedOrder store(Order order) {
+		long receiptId = receiptSequence.incrementAndGet();
+		receipts.put(receiptId, order);
+		return new CommittedOrder(receiptId, order);
+	}
+
+	private CommittedOrder publish(CommittedOrder committedOrder) {
+		receiptConsumer.accept(committedOrder.order());
+		return committedOrder;
+	}
+
+	public Order findReceipt(long receiptId) {
+		return receipts.get(receiptId);
+	}
+
+	private record IdempotentCommit(
+		List<OrderItem> orderItems,
+		CheckoutDecisionPolicy policy,
+		CompletableFuture<CommittedOrder> result
+	) {
+		private boolean matches(IdempotentCommit other) {
+			return orderItems.equals(other.orderItems) && policy.equals(other.policy);
+		}
+	}
+}
@@ -0,0 +1,6 @@
+package store.api;
+
+import store.domain.order.Order;
+
+public record CommittedOrder(long receiptId, Order order) {
+}
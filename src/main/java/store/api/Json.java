@@ -0,0 +1,75 @@
+package store.api;
+
+import java.util.List;
+import java.util.Map;
+
+final class Json {
+	private Json() {
+	}
+
+	static String write(Object value) {
+		StringBuilder builder = new StringBuilder();
+		writeValue(builder, value);
+		return builder.toString();
+	}
+
+	private static void writeValue(StringBuilder builder, Object value) {
+		if (value instanceof Map<?, ?> map) {
+			writeObject(builder, map);
+			return;
+		}
+		if (value instanceof List<?> list) {
+			writeArray(builder, list);
+			return;
+		}
+		if (value instanceof String string) {
+			writeString(builder, string);
+			return;
+		}
+		builder.append(String.valueOf(value));
+	}
+
+	private static void writeObject(StringBuilder builder, Map<?, ?> map) {
+		builder.append('{');
+		String separator = "";
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			builder.append(separator);
+			writeString(builder, String.valueOf(entry.getKey()));
+			builder.append(':');
+			writeValue(builder, entry.getValue());
+			separator = ",";
+		}
+		builder.append('}');
+	}
+
+	private static void writeArray(StringBuilder builder, List<?> list) {
+		builder.append('[');
+		String separator = "";
+		for (Object element : list) {
+			builder.append(separator);
+			writeValue(builder, element);
+			separator = ",";
+		}
+		builder.append(']');
+	}
+
+	private static void writeString(StringBuilder builder, String string) {
+		builder.append('"');
+		for (int index = 0; index < string.length(); index++) {
+			appendEscaped(builder, string.charAt(index));
+		}
+		builder.append('"');
+	}
+
+	private static void appendEscaped(StringBuilder builder, char character) {
+		if (character == '"' || character == '\\') {
+			builder.append('\\').append(character);
+			return;
+		}
+		if (character < ' ') {
+			builder.append("\\u%04x".formatted((int)character));
+			return;
+		}
+		builder.append(character);
+	}
+}
@@ -0,0 +1,61 @@
+package store.api;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+final class QueryParameters {
+	private static final String PARAMETER_DELIMITER = "&";
+	private static final String VALUE_DELIMITER = "=";
+
+	private final Map<String, String> parameters;
+
+	private QueryParameters(Map<String, String> parameters) {
+		this.parameters = parameters;
+	}
+
+	static QueryParameters from(URI uri) {
+		Map<String, String> parameters = new HashMap<>();
+		String query = uri.getRawQuery();
+		if (query == null) {
+			return new QueryParameters(parameters);
+		}
+		for (String parameter : query.split(PARAMETER_DELIMITER)) {
+			String[] nameAndValue = parameter.split(VALUE_DELIMITER, 2);
+			parameters.put(decode(nameAndValue[0]), decode(valueOf(nameAndValue)));
+		}
+		return new QueryParameters(parameters);
+	}
+
+	private static String valueOf(String[] nameAndValue) {
+		if (nameAndValue.length < 2) {
+			return "";
+		}
+		return nameAndValue[1];
+	}
+
+	private static String decode(String encoded) {
+		return URLDecoder.decode(encoded, StandardCharsets.UTF_8);
+	}
+
+	String get(String name) {
+		return parameters.get(name);
+	}
+
+	boolean has(String name) {
+		return parameters.containsKey(name);
+	}
+
+	int getInt(String name, int defaultValue, String invalidMessage) {
+		if (!has(name)) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(get(name));
+		} catch (NumberFormatException invalidNumber) {
+			throw new IllegalArgumentException(invalidMessage);
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package store.batch;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import store.checkout.Checkout;
+import store.domain.order.Order;
+import store.domain.order.OrderSummary;
+import store.domain.stock.Stock;
+import store.domain.stock.StockReservation;
+import store.io.batch.BatchOrderReader;
+import store.validator.stock.StockValidateMessage;
+
+public class BatchCheckout {
+	private static final int CHUNK_SIZE = 512;
+	private static final int CHUNK_QUEUE_CAPACITY = 8;
+
+	private final Checkout checkout;
+	private final Stock stock;
+	private final Consumer<Order> receiptConsumer;
+	private final List<BatchFailure> failures;
+	private long orderCount;
+	private long committedCount;
+	private long sessionCount;
+	private boolean sessionOpen;
+	private long totalQuantity;
+	private long totalAmount;
+	private long promotionDiscount;
+	private long membershipDiscount;
+	private long finalAmount;
+
+	private BatchCheckout(Checkout checkout, Stock stock, Consumer<Order> receiptConsumer) {
+		this.checkout = checkout;
+		this.stock = stock;
+		this.receiptConsumer = receiptConsumer;
+		this.failures = new ArrayList<>();
+	}
+
+	public static BatchCheckout of(Checkout checkout, Stock stock, Consumer<Order> receiptConsumer) {
+		return new BatchCheckout(checkout, stock, receiptConsumer);
+	}
+
+	public BatchSummary run(Path ordersPath) {
+		BatchOrderReader reader = BatchOrderReader.open(ordersPath);
+		BlockingQueue<List<BatchEntry>> chunks = new ArrayBlockingQueue<>(CHUNK_QUEUE_CAPACITY);
+		Thread readerThread = Thread.ofPlatform().daemon().name("batch-order-reader")
+			.start(() -> reader.readChunks(CHUNK_SIZE, chunks));
+		try {
+			processChunks(chunks);
+		} finally {
+			readerThread.interrupt();
+		}
+		return toSummary();
+	}
+
+	private void processChunks(BlockingQueue<List<BatchEntry>> chunks) {
+		try {
+			for (List<BatchEntry> chunk = chunks.take(); !chunk.isEmpty(); chunk = chunks.take()) {
+				processChunk(chunk);
+			}
+		} catch (InterruptedException stopped) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void processChunk(List<BatchEntry> chunk) {
+		List<PendingOrder> pendingOrders = new ArrayList<>();
+		chunk.forEach(entry -> process(entry, pendingOrders));
+		pendingOrders.forEach(this::confirm);
+	}
+
+	private void process(BatchEntry entry, List<PendingOrder> pendingOrders) {
+		orderCount++;
+		if (entry instanceof BatchFailure failure) {
+			failures.add(failure);
+			return;
+		}
+		BatchOrder batchOrder = (BatchOrder)entry;
+		trackSession(batchOrder);
+		CompletableFuture<Order> written = checkout(batchOrder);
+		if (written != null) {
+			pendingOrders.add(new PendingOrder(batchOrder.lineNumber(), written));
+		}
+	}
+
+	private void confirm(PendingOrder pendingOrder) {
+		try {
+			Order order = pendingOrder.written().join();
+			accumulate(order.getSummary());
+			receiptConsumer.accept(order);
+		} catch (CompletionException journalFailure) {
+			failures.add(new BatchFailure(pendingOrder.lineNumber(),
+				StockValidateMessage.INVALID_JOURNAL_WRITE.getMessage()));
+		}
+	}
+
+	private void trackSession(BatchOrder batchOrder) {
+		if (!sessionOpen) {
+			sessionCount++;
+		}
+		sessionOpen = batchOrder.decisionPolicy().getContinue().equals("Y");
+	}
+
+	private CompletableFuture<Order> checkout(BatchOrder batchOrder) {
+		StockReservation reservation;
+		try {
+			reservation = stock.reserve(batchOrder.orderItems());
+		} catch (IllegalStateException invalidOrderItems) {
+			failures.add(new BatchFailure(batchOrder.lineNumber(), invalidOrderItems.getMessage()));
+			return null;
+		}
+		return complete(batchOrder, reservation);
+	}
+
+	private CompletableFuture<Order> complete(BatchOrder batchOrder, StockReservation reservation) {
+		try {
+			return checkout.completeAsync(reservation, batchOrder.decisionPolicy());
+		} catch (IllegalStateException outOfStock) {
+			failures.add(new BatchFailure(batchOrder.lineNumber(), outOfStock.getMessage()));
+			return null;
+		} finally {
+			stock.release(reservation);
+		}
+	}
+
+	private void accumulate(OrderSummary summary) {
+		committedCount++;
+		totalQuantity += summary.totalQuantity();
+		totalAmount += summary.totalAmount();
+		promotionDiscount += summary.promotionDiscount();
+		membershipDiscount += summary.membershipDiscount();
+		finalAmount += summary.finalAmount();
+	}
+
+	private BatchSummary toSummary() {
+		failures.sort(Comparator.comparingLong(BatchFailure::lineNumber));
+		return new BatchSummary(orderCount, committedCount, failures.size(), sessionCount, totalQuantity,
+			totalAmount, promotionDiscount, membershipDiscount, finalAmount, List.copyOf(failures));
+	}
+
+	private record PendingOrder(long lineNumber, CompletableFuture<Order> written) {
+	}
+}
@@ -0,0 +1,5 @@
+package store.batch;
+
+public sealed interface BatchEntry permits BatchOrder, BatchFailure {
+	long lineNumber();
+}
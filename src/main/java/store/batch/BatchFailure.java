@@ -0,0 +1,4 @@
+package store.batch;
+
+public record BatchFailure(long lineNumber, String message) implements BatchEntry {
+}
@@ -0,0 +1,13 @@
+package store.batch;
+
+import java.util.List;
+
+import store.checkout.FixedDecisionPolicy;
+import store.domain.order.OrderItem;
+
+public record BatchOrder(
+	long lineNumber,
+	List<OrderItem> orderItems,
+	FixedDecisionPolicy decisionPolicy
+) implements BatchEntry {
+}
@@ -0,0 +1,17 @@
+package store.batch;
+
+import java.util.List;
+
+public record BatchSummary(
+	long orderCount,
+	long committedCount,
+	long failedCount,
+	long sessionCount,
+	long totalQuantity,
+	long totalAmount,
+	long promotionDiscount,
+	long membershipDiscount,
+	long finalAmount,
+	List<BatchFailure> failures
+) {
+}
@@ -0,0 +1,117 @@
+package store.checkout;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.domain.order.OrderItem;
+import store.domain.order.OrderLineItem;
+import store.domain.product.PromotionOrderResult;
+import store.domain.product.PromotionOrderStatus;
+import store.domain.stock.Stock;
+import store.domain.stock.StockReservation;
+
+public class Checkout {
+	private final Stock stock;
+	private final Membership membership;
+
+	private Checkout(Stock stock, Membership membership) {
+		this.stock = stock;
+		this.membership = membership;
+	}
+
+	public static Checkout of(Stock stock, Membership membership) {
+		return new Checkout(stock, membership);
+	}
+
+	public Order complete(StockReservation reservation, CheckoutDecisionPolicy policy) {
+		Order order = createOrder(reservation, policy);
+		stock.commit(reservation, order.getOrderLineItems());
+		return order;
+	}
+
+	public CompletableFuture<Order> completeAsync(StockReservation reservation, CheckoutDecisionPolicy policy) {
+		Order order = createOrder(reservation, policy);
+		return stock.commitAsync(reservation, order.getOrderLineItems()).thenApply(written -> order);
+	}
+
+	public Order createOrder(StockReservation reservation, CheckoutDecisionPolicy policy) {
+		return createOrder(reservation.getOrderItems(), reservation, policy);
+	}
+
+	public OrderQuote quote(List<OrderItem> orderItems, CheckoutDecisionPolicy policy) {
+		stock.validateOrderItems(orderItems);
+		List<ItemQuote> itemQuotes = orderItems.stream()
+			.map(orderItem -> quoteItem(orderItem, StockReservation.none()))
+			.toList();
+		return new OrderQuote(itemQuotes, createOrder(orderItems, StockReservation.none(), policy));
+	}
+
+	private Order createOrder(List<OrderItem> orderItems, StockReservation reservation,
+		CheckoutDecisionPolicy policy) {
+		List<OrderLineItem> orderLineItems = getOrderLineItems(orderItems, reservation, policy);
+		String hasMembership = policy.getApplyMembership();
+		return Order.of(orderLineItems, membership, hasMembership);
+	}
+
+	private ItemQuote quoteItem(OrderItem orderItem, StockReservation reservation) {
+		if (stock.isPromotionAndValidPromotion(orderItem, reservation)) {
+			return new ItemQuote(orderItem, stock.getPromotionOrderStatus(orderItem, reservation));
+		}
+		return new ItemQuote(orderItem, null);
+	}
+
+	private List<OrderLineItem> getOrderLineItems(List<OrderItem> orderItems, StockReservation reservation,
+		CheckoutDecisionPolicy policy) {
+		return orderItems.stream()
+			.map(orderItem -> createOrderLineItem(orderItem, reservation, policy))
+			.toList();
+	}
+
+	private OrderLineItem createOrderLineItem(OrderItem orderItem, StockReservation reservation,
+		CheckoutDecisionPolicy policy) {
+		if (stock.isPromotionAndValidPromotion(orderItem, reservation)) {
+			return getPromotionProductInfo(orderItem, reservation, policy);
+		}
+		return stock.getNormalProductInfo(orderItem);
+	}
+
+	private OrderLineItem getPromotionProductInfo(OrderItem orderItem, StockReservation reservation,
+		CheckoutDecisionPolicy policy) {
+		PromotionOrderStatus promotionOrderStatus = stock.getPromotionOrderStatus(orderItem, reservation);
+
+		if (promotionOrderStatus.result() == PromotionOrderResult.INSUFFICIENT_STOCK) {
+			return handleInsufficientStock(orderItem, promotionOrderStatus, policy);
+		}
+
+		if (promotionOrderStatus.result() == PromotionOrderResult.BELOW_QUANTITY) {
+			return handleBelowQuantity(orderItem, promotionOrderStatus, policy);
+		}
+
+		return handleExactQuantity(orderItem, promotionOrderStatus);
+	}
+
+	private OrderLineItem handleInsufficientStock(OrderItem orderItem, PromotionOrderStatus status,
+		CheckoutDecisionPolicy policy) {
+		String answer = policy.getNonDisCount(orderItem.name(), status.displayQuantity());
+		if (answer.equals("N")) {
+			return OrderLineItem.ofPromotionOnly(orderItem.name(), status);
+		}
+		return OrderLineItem.ofMixedQuantity(orderItem.name(), status);
+	}
+
+	private OrderLineItem handleBelowQuantity(OrderItem orderItem, PromotionOrderStatus status,
+		CheckoutDecisionPolicy policy) {
+		String answer = policy.getApplyPromotion(orderItem.name(), status.additionalQuantity());
+
+		if (answer.equals("Y")) {
+			return OrderLineItem.ofAdditionalQuantity(orderItem, status);
+		}
+		return OrderLineItem.ofNonPromotional(orderItem.name(), status);
+	}
+
+	private OrderLineItem handleExactQuantity(OrderItem orderItem, PromotionOrderStatus status) {
+		return OrderLineItem.ofExactPromotion(orderItem.name(), status);
+	}
+}
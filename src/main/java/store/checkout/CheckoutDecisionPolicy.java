@@ -0,0 +1,11 @@
+package store.checkout;
+
+public interface CheckoutDecisionPolicy {
+	String getApplyPromotion(String name, int quantity);
+
+	String getNonDisCount(String name, int quantity);
+
+	String getApplyMembership();
+
+	String getContinue();
+}
@@ -0,0 +1,49 @@
+package store.checkout;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.domain.order.OrderLineItem;
+import store.domain.stock.Stock;
+
+public class CheckoutEngine {
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+	private final Stock stock;
+	private final Membership membership;
+	private final ExecutorService registers;
+
+	private CheckoutEngine(Stock stock, Membership membership, int registerCount) {
+		this.stock = stock;
+		this.membership = membership;
+		this.registers = Executors.newFixedThreadPool(registerCount);
+	}
+
+	public static CheckoutEngine of(Stock stock, Membership membership, int registerCount) {
+		return new CheckoutEngine(stock, membership, registerCount);
+	}
+
+	public Future<Order> submit(List<OrderLineItem> orderLineItems, String hasMembership) {
+		return registers.submit(() -> checkout(orderLineItems, hasMembership));
+	}
+
+	public Order checkout(List<OrderLineItem> orderLineItems, String hasMembership) {
+		stock.deductStocks(orderLineItems);
+		return Order.of(orderLineItems, membership, hasMembership);
+	}
+
+	public void shutdown() {
+		registers.shutdown();
+		try {
+			registers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException interrupted) {
+			registers.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
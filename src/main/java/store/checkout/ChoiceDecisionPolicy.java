@@ -0,0 +1,77 @@
+package store.checkout;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import store.validator.checkout.CheckoutValidateMessage;
+import store.validator.input.InputValidatingParser;
+
+public record ChoiceDecisionPolicy(
+	Map<String, String> applyPromotions,
+	Map<String, String> nonDisCounts,
+	String applyMembership
+) implements CheckoutDecisionPolicy {
+	private static final String CHOICE_DELIMITER = ",";
+	private static final String ANSWER_DELIMITER = ":";
+
+	public ChoiceDecisionPolicy {
+		applyPromotions = Map.copyOf(applyPromotions);
+		nonDisCounts = Map.copyOf(nonDisCounts);
+	}
+
+	public static ChoiceDecisionPolicy from(String applyPromotions, String nonDisCounts, String applyMembership) {
+		return new ChoiceDecisionPolicy(parseChoices(applyPromotions), parseChoices(nonDisCounts),
+			validatedAnswer(applyMembership));
+	}
+
+	private static String validatedAnswer(String answer) {
+		return InputValidatingParser.getInstance().validateAdditionalAnswer(answer);
+	}
+
+	private static Map<String, String> parseChoices(String choices) {
+		Map<String, String> result = new HashMap<>();
+		if (choices == null || choices.isEmpty()) {
+			return result;
+		}
+		for (String choice : choices.split(CHOICE_DELIMITER)) {
+			String[] nameAndAnswer = choice.split(ANSWER_DELIMITER, -1);
+			validateChoice(nameAndAnswer);
+			result.put(nameAndAnswer[0], validatedAnswer(nameAndAnswer[1]));
+		}
+		return result;
+	}
+
+	private static void validateChoice(String[] nameAndAnswer) {
+		if (nameAndAnswer.length != 2 || nameAndAnswer[0].isEmpty()) {
+			throw new IllegalArgumentException(CheckoutValidateMessage.INVALID_CHOICE_FORMAT.getMessage());
+		}
+	}
+
+	@Override
+	public String getApplyPromotion(String name, int quantity) {
+		return findChoice(applyPromotions, name);
+	}
+
+	@Override
+	public String getNonDisCount(String name, int quantity) {
+		return findChoice(nonDisCounts, name);
+	}
+
+	private String findChoice(Map<String, String> choices, String name) {
+		String answer = choices.get(name);
+		if (answer == null) {
+			throw new IllegalStateException(CheckoutValidateMessage.INVALID_CHOICE_MISSING.getMessage());
+		}
+		return answer;
+	}
+
+	@Override
+	public String getApplyMembership() {
+		return applyMembership;
+	}
+
+	@Override
+	public String getContinue() {
+		return "N";
+	}
+}
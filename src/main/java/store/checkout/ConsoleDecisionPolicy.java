@@ -0,0 +1,35 @@
+package store.checkout;
+
+import store.io.IoHandler;
+
+public class ConsoleDecisionPolicy implements CheckoutDecisionPolicy {
+	private final IoHandler ioHandler;
+
+	private ConsoleDecisionPolicy(IoHandler ioHandler) {
+		this.ioHandler = ioHandler;
+	}
+
+	public static ConsoleDecisionPolicy from(IoHandler ioHandler) {
+		return new ConsoleDecisionPolicy(ioHandler);
+	}
+
+	@Override
+	public String getApplyPromotion(String name, int quantity) {
+		return ioHandler.getApplyPromotion(name, quantity);
+	}
+
+	@Override
+	public String getNonDisCount(String name, int quantity) {
+		return ioHandler.getNonDisCount(name, quantity);
+	}
+
+	@Override
+	public String getApplyMembership() {
+		return ioHandler.getApplyMembership();
+	}
+
+	@Override
+	public String getContinue() {
+		return ioHandler.getContinue();
+	}
+}
@@ -0,0 +1,34 @@
+package store.checkout;
+
+import java.util.function.UnaryOperator;
+
+import store.validator.checkout.CheckoutValidateMessage;
+
+public enum DecisionRule {
+	MAXIMIZE_PROMOTION("maximize-promotion", policy -> policy.withApplyPromotion("Y")),
+	NEVER_BUY_NON_DISCOUNTED("never-buy-non-discounted", policy -> policy.withNonDisCount("N")),
+	MEMBER_ALWAYS("member-always", policy -> policy.withApplyMembership("Y")),
+	CONTINUE_ALWAYS("continue-always", policy -> policy.withContinue("Y")),
+	;
+
+	private final String name;
+	private final UnaryOperator<FixedDecisionPolicy> rule;
+
+	DecisionRule(String name, UnaryOperator<FixedDecisionPolicy> rule) {
+		this.name = name;
+		this.rule = rule;
+	}
+
+	public static DecisionRule from(String name) {
+		for (DecisionRule decisionRule : values()) {
+			if (decisionRule.name.equals(name.strip())) {
+				return decisionRule;
+			}
+		}
+		throw new IllegalArgumentException(CheckoutValidateMessage.INVALID_DECISION_RULE.getMessage());
+	}
+
+	public FixedDecisionPolicy applyTo(FixedDecisionPolicy policy) {
+		return rule.apply(policy);
+	}
+}
@@ -0,0 +1,58 @@
+package store.checkout;
+
+public record FixedDecisionPolicy(
+	String applyPromotion,
+	String nonDisCount,
+	String applyMembership,
+	String continueAnswer
+) implements CheckoutDecisionPolicy {
+	private static final String RULE_DELIMITER = ",";
+
+	public static FixedDecisionPolicy asOrdered() {
+		return new FixedDecisionPolicy("N", "Y", "N", "N");
+	}
+
+	public static FixedDecisionPolicy from(String rules) {
+		FixedDecisionPolicy policy = asOrdered();
+		for (String rule : rules.split(RULE_DELIMITER)) {
+			policy = DecisionRule.from(rule).applyTo(policy);
+		}
+		return policy;
+	}
+
+	public FixedDecisionPolicy withApplyPromotion(String answer) {
+		return new FixedDecisionPolicy(answer, nonDisCount, applyMembership, continueAnswer);
+	}
+
+	public FixedDecisionPolicy withNonDisCount(String answer) {
+		return new FixedDecisionPolicy(applyPromotion, answer, applyMembership, continueAnswer);
+	}
+
+	public FixedDecisionPolicy withApplyMembership(String answer) {
+		return new FixedDecisionPolicy(applyPromotion, nonDisCount, answer, continueAnswer);
+	}
+
+	public FixedDecisionPolicy withContinue(String answer) {
+		return new FixedDecisionPolicy(applyPromotion, nonDisCount, applyMembership, answer);
+	}
+
+	@Override
+	public String getApplyPromotion(String name, int quantity) {
+		return applyPromotion;
+	}
+
+	@Override
+	public String getNonDisCount(String name, int quantity) {
+		return nonDisCount;
+	}
+
+	@Override
+	public String getApplyMembership() {
+		return applyMembership;
+	}
+
+	@Override
+	public String getContinue() {
+		return continueAnswer;
+	}
+}
@@ -0,0 +1,19 @@
+package store.checkout;
+
+import store.domain.order.OrderItem;
+import store.domain.product.PromotionOrderResult;
+import store.domain.product.PromotionOrderStatus;
+
+public record ItemQuote(OrderItem orderItem, PromotionOrderStatus promotionOrderStatus) {
+	public boolean hasPromotion() {
+		return promotionOrderStatus != null;
+	}
+
+	public boolean asksApplyPromotion() {
+		return hasPromotion() && promotionOrderStatus.result() == PromotionOrderResult.BELOW_QUANTITY;
+	}
+
+	public boolean asksNonDisCount() {
+		return hasPromotion() && promotionOrderStatus.result() == PromotionOrderResult.INSUFFICIENT_STOCK;
+	}
+}
@@ -0,0 +1,8 @@
+package store.checkout;
+
+import java.util.List;
+
+import store.domain.order.Order;
+
+public record OrderQuote(List<ItemQuote> itemQuotes, Order order) {
+}
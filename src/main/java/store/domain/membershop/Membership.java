@@ -1,8 +1,9 @@
 package store.domain.membershop;
 
 public class Membership {
-	private static final int DISCOUNT_RATE = 30;
-	private static final int MAXIMUM_DISCOUNT_AMOUNT = 8_000;
+	private static final long DISCOUNT_RATE = 30;
+	private static final long PERCENT = 100;
+	private static final long MAXIMUM_DISCOUNT_AMOUNT = 8_000;
 
 	private Membership() {
 	}
@@ -12,7 +13,11 @@ public class Membership {
 	}
 
 	public int calculateDiscountPrice(int price) {
-		int discountPrice = (int)(price * DISCOUNT_RATE / 100.0);
+		return (int)calculateDiscountPrice((long)price);
+	}
+
+	public long calculateDiscountPrice(long price) {
+		long discountPrice = Math.multiplyExact(price, DISCOUNT_RATE) / PERCENT;
 		return Math.min(discountPrice, MAXIMUM_DISCOUNT_AMOUNT);
 	}
 }
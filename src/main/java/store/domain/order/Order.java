@@ -5,14 +5,14 @@ import java.util.List;
 import store.domain.membershop.Membership;
 
 public class Order {
+	private static final String MEMBERSHIP_APPLIED = "Y";
+
 	private final List<OrderLineItem> orderLineItems;
-	private final Membership membership;
-	private final String hasMembership;
+	private final OrderSummary summary;
 
 	private Order(List<OrderLineItem> orderLineItems, Membership membership, String hasMembership) {
 		this.orderLineItems = orderLineItems;
-		this.membership = membership;
-		this.hasMembership = hasMembership;
+		this.summary = OrderSummary.of(orderLineItems, membership, MEMBERSHIP_APPLIED.equals(hasMembership));
 	}
 
 	public static Order of(List<OrderLineItem> orderLineItems, Membership membership, String hasMembership) {
@@ -29,41 +29,27 @@ public class Order {
 			.toList();
 	}
 
+	public OrderSummary getSummary() {
+		return summary;
+	}
+
 	public int getTotalAmount() {
-		return orderLineItems.stream()
-			.mapToInt(item -> item.getTotalQuantity() * item.getUnitPrice())
-			.sum();
+		return Math.toIntExact(summary.totalAmount());
 	}
 
 	public int getPromotionDiscount() {
-		return orderLineItems.stream()
-			.filter(OrderLineItem::isPromotionApplied)
-			.mapToInt(item -> item.getFreeQuantity() * item.getUnitPrice())
-			.sum();
+		return Math.toIntExact(summary.promotionDiscount());
 	}
 
 	public int getMembershipDiscount() {
-		if (!hasMembership.equals("Y")) {
-			return 0;
-		}
-		int normalAmount = getNormalAmount();
-		return membership.calculateDiscountPrice(normalAmount);
+		return Math.toIntExact(summary.membershipDiscount());
 	}
 
 	public int getFinalAmount() {
-		return getTotalAmount() - getPromotionDiscount() - getMembershipDiscount();
+		return Math.toIntExact(summary.finalAmount());
 	}
 
 	public int getTotalQuantity() {
-		return orderLineItems.stream()
-			.mapToInt(OrderLineItem::getTotalQuantity)
-			.sum();
-	}
-
-	private int getNormalAmount() {
-		return orderLineItems.stream()
-			.filter(item -> !item.isPromotionApplied())
-			.mapToInt(item -> item.getNormalQuantity() * item.getUnitPrice())
-			.sum();
+		return Math.toIntExact(summary.totalQuantity());
 	}
 }
@@ -0,0 +1,19 @@
+package store.domain.order;
+
+import java.util.List;
+
+import store.domain.membershop.Membership;
+
+public record OrderSummary(
+	long totalQuantity,
+	long totalAmount,
+	long promotionDiscount,
+	long normalAmount,
+	long membershipDiscount,
+	long finalAmount
+) {
+	public static OrderSummary of(List<OrderLineItem> orderLineItems, Membership membership,
+		boolean membershipApplied) {
+		return PricingEngine.from(membership).price(orderLineItems, membershipApplied);
+	}
+}
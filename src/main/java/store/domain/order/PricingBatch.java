@@ -0,0 +1,84 @@
+package store.domain.order;
+
+import java.util.Arrays;
+
+public class PricingBatch {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private int[] totalQuantities;
+	private int[] unitPrices;
+	private int[] freeQuantities;
+	private int[] normalQuantities;
+	private boolean[] promotionApplied;
+	private int size;
+
+	private PricingBatch(int capacity) {
+		this.totalQuantities = new int[capacity];
+		this.unitPrices = new int[capacity];
+		this.freeQuantities = new int[capacity];
+		this.normalQuantities = new int[capacity];
+		this.promotionApplied = new boolean[capacity];
+	}
+
+	public static PricingBatch create() {
+		return new PricingBatch(INITIAL_CAPACITY);
+	}
+
+	public static PricingBatch withCapacity(int capacity) {
+		return new PricingBatch(Math.max(capacity, 1));
+	}
+
+	public void add(OrderLineItem item) {
+		add(item.getTotalQuantity(), item.getUnitPrice(), item.getFreeQuantity(), item.getNormalQuantity(),
+			item.isPromotionApplied());
+	}
+
+	public void add(int totalQuantity, int unitPrice, int freeQuantity, int normalQuantity,
+		boolean isPromotionApplied) {
+		if (size == totalQuantities.length) {
+			grow();
+		}
+		totalQuantities[size] = totalQuantity;
+		unitPrices[size] = unitPrice;
+		freeQuantities[size] = freeQuantity;
+		normalQuantities[size] = normalQuantity;
+		promotionApplied[size++] = isPromotionApplied;
+	}
+
+	private void grow() {
+		int capacity = totalQuantities.length * 2;
+		totalQuantities = Arrays.copyOf(totalQuantities, capacity);
+		unitPrices = Arrays.copyOf(unitPrices, capacity);
+		freeQuantities = Arrays.copyOf(freeQuantities, capacity);
+		normalQuantities = Arrays.copyOf(normalQuantities, capacity);
+		promotionApplied = Arrays.copyOf(promotionApplied, capacity);
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	int totalQuantity(int index) {
+		return totalQuantities[index];
+	}
+
+	int unitPrice(int index) {
+		return unitPrices[index];
+	}
+
+	int freeQuantity(int index) {
+		return freeQuantities[index];
+	}
+
+	int normalQuantity(int index) {
+		return normalQuantities[index];
+	}
+
+	boolean isPromotionApplied(int index) {
+		return promotionApplied[index];
+	}
+}
@@ -0,0 +1,79 @@
+package store.domain.order;
+
+import java.util.List;
+
+import store.domain.membershop.Membership;
+
+public class PricingEngine {
+	private static final long NO_DISCOUNT = 0;
+
+	private final Membership membership;
+
+	private PricingEngine(Membership membership) {
+		this.membership = membership;
+	}
+
+	public static PricingEngine from(Membership membership) {
+		return new PricingEngine(membership);
+	}
+
+	public static long lineAmount(int quantity, int unitPrice) {
+		return (long)quantity * unitPrice;
+	}
+
+	public OrderSummary price(List<OrderLineItem> orderLineItems, boolean membershipApplied) {
+		PricingTotals totals = new PricingTotals();
+		for (OrderLineItem item : orderLineItems) {
+			totals.accumulate(item.getTotalQuantity(), item.getUnitPrice(), item.getFreeQuantity(),
+				item.getNormalQuantity(), item.isPromotionApplied());
+		}
+		return summarize(totals, membershipApplied);
+	}
+
+	public OrderSummary price(PricingBatch batch, boolean membershipApplied) {
+		PricingTotals totals = new PricingTotals();
+		for (int index = 0; index < batch.size(); index++) {
+			totals.accumulate(batch.totalQuantity(index), batch.unitPrice(index), batch.freeQuantity(index),
+				batch.normalQuantity(index), batch.isPromotionApplied(index));
+		}
+		return summarize(totals, membershipApplied);
+	}
+
+	public void lineAmounts(PricingBatch batch, long[] amounts) {
+		for (int index = 0; index < batch.size(); index++) {
+			amounts[index] = lineAmount(batch.totalQuantity(index), batch.unitPrice(index));
+		}
+	}
+
+	private OrderSummary summarize(PricingTotals totals, boolean membershipApplied) {
+		long membershipDiscount = membershipDiscount(totals.normalAmount, membershipApplied);
+		return new OrderSummary(totals.totalQuantity, totals.totalAmount, totals.promotionDiscount,
+			totals.normalAmount, membershipDiscount,
+			totals.totalAmount - totals.promotionDiscount - membershipDiscount);
+	}
+
+	private long membershipDiscount(long normalAmount, boolean membershipApplied) {
+		if (!membershipApplied) {
+			return NO_DISCOUNT;
+		}
+		return membership.calculateDiscountPrice(normalAmount);
+	}
+
+	private static class PricingTotals {
+		private long totalQuantity;
+		private long totalAmount;
+		private long promotionDiscount;
+		private long normalAmount;
+
+		private void accumulate(int quantity, int unitPrice, int freeQuantity, int normalQuantity,
+			boolean isPromotionApplied) {
+			totalQuantity += quantity;
+			totalAmount = Math.addExact(totalAmount, lineAmount(quantity, unitPrice));
+			if (isPromotionApplied) {
+				promotionDiscount = Math.addExact(promotionDiscount, lineAmount(freeQuantity, unitPrice));
+				return;
+			}
+			normalAmount = Math.addExact(normalAmount, lineAmount(normalQuantity, unitPrice));
+		}
+	}
+}
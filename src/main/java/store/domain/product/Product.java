@@ -1,26 +1,37 @@
 package store.domain.product;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionActivity;
 import store.validator.product.ProductValidateMessage;
 
 public class Product {
+	private static final Runnable NO_LISTENER = () -> {
+	};
+
 	private final String name;
 	private final int price;
-	private int quantity;
+	private final AtomicInteger quantity;
 	private final Promotion promotion;
+	private final PromotionActivity promotionActivity;
+	private volatile Runnable quantityListener;
 
-	private Product(String name, int price, int quantity, Promotion promotion) {
+	private Product(String name, int price, int quantity, Promotion promotion, PromotionActivity promotionActivity) {
 		validateName(name);
 		validatePrice(price);
 		validateQuantity(quantity);
 		this.name = name;
 		this.price = price;
-		this.quantity = quantity;
+		this.quantity = new AtomicInteger(quantity);
 		this.promotion = promotion;
+		this.promotionActivity = promotionActivity;
+		this.quantityListener = NO_LISTENER;
 	}
 
 	public static Product of(String name, int price, int quantity, Promotion promotion) {
-		return new Product(name, price, quantity, promotion);
+		return new Product(name, price, quantity, promotion, null);
 	}
 
 	public static Product of(PrimitiveProductInfo info, Promotion promotion) {
@@ -28,10 +39,19 @@ public class Product {
 			info.name(),
 			info.price(),
 			info.quantity(),
-			promotion
+			promotion,
+			null
 		);
 	}
 
+	public static Product scheduled(List<Product> schedule, PromotionActivity promotionActivity) {
+		Product first = schedule.getFirst();
+		int quantity = schedule.stream()
+			.mapToInt(Product::getQuantity)
+			.sum();
+		return new Product(first.name, first.price, quantity, first.promotion, promotionActivity);
+	}
+
 	private void validateName(String name) {
 		if (name == null || name.isBlank() || name.equals("null")) {
 			throw new IllegalArgumentException(ProductValidateMessage.INVALID_NAME.getMessage());
@@ -59,18 +79,61 @@ public class Product {
 	}
 
 	public int getQuantity() {
-		return quantity;
+		return quantity.get();
 	}
 
 	public Promotion getPromotion() {
-		return promotion;
+		if (promotionActivity == null) {
+			return promotion;
+		}
+		return promotionActivity.findScheduled(name, promotion);
 	}
 
 	public boolean hasPromotion() {
 		return promotion != null;
 	}
 
+	public void onQuantityChanged(Runnable listener) {
+		this.quantityListener = listener;
+	}
+
 	public void deductQuantity(int deductQuantity) {
-		quantity -= deductQuantity;
+		quantity.addAndGet(-deductQuantity);
+		notifyQuantityChanged(deductQuantity);
+	}
+
+	public boolean tryReserve(int reserveQuantity) {
+		while (true) {
+			int currentQuantity = quantity.get();
+			if (currentQuantity < reserveQuantity) {
+				return false;
+			}
+			if (quantity.compareAndSet(currentQuantity, currentQuantity - reserveQuantity)) {
+				notifyQuantityChanged(reserveQuantity);
+				return true;
+			}
+		}
+	}
+
+	public int reserveUpTo(int maxQuantity) {
+		while (true) {
+			int currentQuantity = quantity.get();
+			int reserveQuantity = Math.min(currentQuantity, maxQuantity);
+			if (quantity.compareAndSet(currentQuantity, currentQuantity - reserveQuantity)) {
+				notifyQuantityChanged(reserveQuantity);
+				return reserveQuantity;
+			}
+		}
+	}
+
+	public void restoreQuantity(int restoreQuantity) {
+		quantity.addAndGet(restoreQuantity);
+		notifyQuantityChanged(restoreQuantity);
+	}
+
+	private void notifyQuantityChanged(int changedQuantity) {
+		if (changedQuantity != 0) {
+			quantityListener.run();
+		}
 	}
 }
@@ -114,9 +114,20 @@ public class Promotion {
 		return get;
 	}
 
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	public LocalDate getEndDate() {
+		return endDate;
+	}
+
 	public boolean isValidPromotion() {
 		LocalDateTime now = DateTimes.now();
-		LocalDate today = now.toLocalDate();
+		return isValidPromotion(now.toLocalDate());
+	}
+
+	public boolean isValidPromotion(LocalDate today) {
 		return !today.isBefore(startDate) && !today.isAfter(endDate);
 	}
 }
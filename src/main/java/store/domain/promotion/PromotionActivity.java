@@ -0,0 +1,94 @@
+package store.domain.promotion;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+
+public class PromotionActivity {
+	private final List<Promotion> promotions;
+	private final Map<Promotion, Integer> indexes;
+	private final PromotionCalendar calendar;
+	private final Supplier<LocalDateTime> clock;
+	private final LongSupplier nanoTime;
+	private volatile ActiveState state;
+
+	private PromotionActivity(List<Promotion> promotions, PromotionCalendar calendar, Supplier<LocalDateTime> clock,
+		LongSupplier nanoTime) {
+		this.promotions = new ArrayList<>();
+		this.indexes = new IdentityHashMap<>();
+		this.calendar = calendar;
+		this.clock = clock;
+		this.nanoTime = nanoTime;
+		promotions.forEach(this::register);
+	}
+
+	public static PromotionActivity of(List<Promotion> promotions) {
+		return of(promotions, PromotionCalendar.empty());
+	}
+
+	public static PromotionActivity of(List<Promotion> promotions, PromotionCalendar calendar) {
+		return of(promotions, calendar, DateTimes::now, System::nanoTime);
+	}
+
+	static PromotionActivity of(List<Promotion> promotions, Supplier<LocalDateTime> clock, LongSupplier nanoTime) {
+		return of(promotions, PromotionCalendar.empty(), clock, nanoTime);
+	}
+
+	static PromotionActivity of(List<Promotion> promotions, PromotionCalendar calendar, Supplier<LocalDateTime> clock,
+		LongSupplier nanoTime) {
+		return new PromotionActivity(promotions, calendar, clock, nanoTime);
+	}
+
+	private void register(Promotion promotion) {
+		if (!indexes.containsKey(promotion)) {
+			indexes.put(promotion, promotions.size());
+			promotions.add(promotion);
+		}
+	}
+
+	public boolean isActive(Promotion promotion) {
+		Integer index = indexes.get(promotion);
+		if (index == null) {
+			return promotion.isValidPromotion();
+		}
+		return currentState().active().get(index);
+	}
+
+	public Promotion findScheduled(String productName, Promotion defaultPromotion) {
+		return currentState().scheduled().getOrDefault(productName, defaultPromotion);
+	}
+
+	private ActiveState currentState() {
+		ActiveState current = state;
+		if (current == null || nanoTime.getAsLong() - current.refreshAt() >= 0) {
+			current = refresh();
+		}
+		return current;
+	}
+
+	private ActiveState refresh() {
+		LocalDateTime now = clock.get();
+		LocalDate today = now.toLocalDate();
+		BitSet active = new BitSet(promotions.size());
+		for (int index = 0; index < promotions.size(); index++) {
+			active.set(index, promotions.get(index).isValidPromotion(today));
+		}
+		long nanosUntilMidnight = Duration.between(now, today.plusDays(1).atStartOfDay()).toNanos();
+		ActiveState refreshed = new ActiveState(active, calendar.findActivePromotions(today),
+			nanoTime.getAsLong() + nanosUntilMidnight);
+		state = refreshed;
+		return refreshed;
+	}
+
+	private record ActiveState(BitSet active, Map<String, Promotion> scheduled, long refreshAt) {
+	}
+}
@@ -0,0 +1,52 @@
+package store.domain.promotion;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PromotionCalendar {
+	private final Map<String, PromotionIntervals> intervalsByProduct;
+
+	private PromotionCalendar(Map<String, PromotionIntervals> intervalsByProduct) {
+		this.intervalsByProduct = intervalsByProduct;
+	}
+
+	public static PromotionCalendar empty() {
+		return new PromotionCalendar(Map.of());
+	}
+
+	public static PromotionCalendar of(Map<String, List<Promotion>> schedules) {
+		Map<String, PromotionIntervals> intervalsByProduct = new HashMap<>();
+		schedules.forEach((productName, promotions) ->
+			intervalsByProduct.put(productName, PromotionIntervals.of(promotions)));
+		return new PromotionCalendar(intervalsByProduct);
+	}
+
+	public Promotion findActive(String productName, LocalDateTime instant) {
+		return findActive(productName, instant.toLocalDate());
+	}
+
+	public Promotion findActive(String productName, LocalDate date) {
+		PromotionIntervals intervals = intervalsByProduct.get(productName);
+		if (intervals == null) {
+			return null;
+		}
+		return intervals.findActive(date.toEpochDay());
+	}
+
+	public Map<String, Promotion> findActivePromotions(LocalDate date) {
+		Map<String, Promotion> activePromotions = new HashMap<>();
+		intervalsByProduct.forEach((productName, intervals) ->
+			addActivePromotion(activePromotions, productName, intervals.findActive(date.toEpochDay())));
+		return activePromotions;
+	}
+
+	private void addActivePromotion(Map<String, Promotion> activePromotions, String productName,
+		Promotion promotion) {
+		if (promotion != null) {
+			activePromotions.put(productName, promotion);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package store.domain.promotion;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+class PromotionIntervals {
+	private static final int ROOT = 1;
+	private static final int NOT_FOUND = -1;
+
+	private final Promotion[] promotions;
+	private final long[] startDays;
+	private final long[] maxEndDays;
+	private final int capacity;
+
+	private PromotionIntervals(Promotion[] promotions) {
+		this.promotions = promotions;
+		this.startDays = new long[promotions.length];
+		this.capacity = Integer.highestOneBit(Math.max(1, promotions.length - 1)) << 1;
+		this.maxEndDays = new long[capacity * 2];
+		fillLeaves();
+		buildMaxEndDays();
+	}
+
+	private void fillLeaves() {
+		Arrays.fill(maxEndDays, Long.MIN_VALUE);
+		for (int index = 0; index < promotions.length; index++) {
+			startDays[index] = promotions[index].getStartDate().toEpochDay();
+			maxEndDays[capacity + index] = promotions[index].getEndDate().toEpochDay();
+		}
+	}
+
+	private void buildMaxEndDays() {
+		for (int node = capacity - 1; node >= ROOT; node--) {
+			maxEndDays[node] = Math.max(maxEndDays[node * 2], maxEndDays[node * 2 + 1]);
+		}
+	}
+
+	static PromotionIntervals of(List<Promotion> promotions) {
+		Promotion[] sorted = promotions.stream()
+			.sorted(Comparator.comparing(Promotion::getStartDate).thenComparing(Promotion::getEndDate))
+			.toArray(Promotion[]::new);
+		return new PromotionIntervals(sorted);
+	}
+
+	Promotion findActive(long epochDay) {
+		int startedCount = countStartedBy(epochDay);
+		int index = findLatestStarted(ROOT, 0, capacity, startedCount, epochDay);
+		if (index == NOT_FOUND) {
+			return null;
+		}
+		return promotions[index];
+	}
+
+	private int countStartedBy(long epochDay) {
+		int low = 0;
+		int high = startDays.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (startDays[middle] <= epochDay) {
+				low = middle + 1;
+				continue;
+			}
+			high = middle;
+		}
+		return low;
+	}
+
+	private int findLatestStarted(int node, int low, int high, int startedCount, long epochDay) {
+		if (low >= startedCount || maxEndDays[node] < epochDay) {
+			return NOT_FOUND;
+		}
+		if (high - low == 1) {
+			return low;
+		}
+		int middle = (low + high) >>> 1;
+		int index = findLatestStarted(node * 2 + 1, middle, high, startedCount, epochDay);
+		if (index != NOT_FOUND) {
+			return index;
+		}
+		return findLatestStarted(node * 2, low, middle, startedCount, epochDay);
+	}
+}
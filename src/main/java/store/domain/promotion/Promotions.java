@@ -1,9 +1,14 @@
 package store.domain.promotion;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import store.validator.promotion.PromotionValidateMessage;
 
 public class Promotions {
-	private final List<Promotion> promotions;
+	private final Map<String, Promotion> promotions;
 
 	private Promotions(List<PrimitivePromotionInfo> infos) {
 		this.promotions = create(infos);
@@ -13,16 +18,21 @@ public class Promotions {
 		return new Promotions(infos);
 	}
 
-	private List<Promotion> create(List<PrimitivePromotionInfo> infos) {
-		return infos.stream()
+	private Map<String, Promotion> create(List<PrimitivePromotionInfo> infos) {
+		Map<String, Promotion> result = new HashMap<>();
+		infos.stream()
 			.map(Promotion::from)
-			.toList();
+			.forEach(promotion -> addPromotion(result, promotion));
+		return Collections.unmodifiableMap(result);
+	}
+
+	private void addPromotion(Map<String, Promotion> result, Promotion promotion) {
+		if (result.putIfAbsent(promotion.getName(), promotion) != null) {
+			throw new IllegalArgumentException(PromotionValidateMessage.INVALID_DUPLICATE_NAME.getMessage());
+		}
 	}
 
 	public Promotion findByName(String name) {
-		return promotions.stream()
-			.filter(p -> p.getName().equals(name))
-			.findFirst()
-			.orElse(null);
+		return promotions.get(name);
 	}
 }
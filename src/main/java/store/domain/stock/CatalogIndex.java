@@ -0,0 +1,95 @@
+package store.domain.stock;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+class CatalogIndex {
+	private final String[] names;
+	private final StockItem[] items;
+	private volatile SuffixArray suffixArray;
+
+	private CatalogIndex(String[] names, StockItem[] items) {
+		this.names = names;
+		this.items = items;
+	}
+
+	static CatalogIndex from(Map<String, StockItem> stockItems) {
+		String[] names = stockItems.keySet().stream().sorted().toArray(String[]::new);
+		StockItem[] items = Arrays.stream(names).map(stockItems::get).toArray(StockItem[]::new);
+		return new CatalogIndex(names, items);
+	}
+
+	StockItem get(int position) {
+		return items[position];
+	}
+
+	String nameAt(int position) {
+		return names[position];
+	}
+
+	PrimitiveIterator.OfInt search(CatalogQuery query) {
+		if (query.substringMatch() && !query.keyword().isEmpty()) {
+			return findContaining(query.keyword(), afterCursor(query), query.pageSize());
+		}
+		return findWithPrefix(query.keyword(), Math.max(lowerBound(query.keyword()), afterCursor(query)));
+	}
+
+	private int afterCursor(CatalogQuery query) {
+		if (query.hasCursor()) {
+			return upperBound(query.cursor());
+		}
+		return 0;
+	}
+
+	private PrimitiveIterator.OfInt findWithPrefix(String prefix, int start) {
+		return IntStream.range(start, names.length)
+			.takeWhile(position -> names[position].startsWith(prefix))
+			.iterator();
+	}
+
+	private PrimitiveIterator.OfInt findContaining(String keyword, int start, int pageSize) {
+		SuffixArray suffixes = suffixArray();
+		int from = suffixes.lowerBound(keyword);
+		int to = suffixes.upperBound(keyword);
+		long matchCount = to - from;
+		if (matchCount * matchCount >= (long)pageSize * (names.length - start)) {
+			return IntStream.range(start, names.length)
+				.filter(position -> names[position].contains(keyword))
+				.iterator();
+		}
+		return Arrays.stream(suffixes.findNames(from, to, start)).iterator();
+	}
+
+	private SuffixArray suffixArray() {
+		SuffixArray current = suffixArray;
+		if (current == null) {
+			current = buildSuffixArray();
+		}
+		return current;
+	}
+
+	private synchronized SuffixArray buildSuffixArray() {
+		if (suffixArray == null) {
+			suffixArray = SuffixArray.of(names);
+		}
+		return suffixArray;
+	}
+
+	private int lowerBound(String key) {
+		int position = Arrays.binarySearch(names, key);
+		if (position < 0) {
+			return -position - 1;
+		}
+		return position;
+	}
+
+	private int upperBound(String key) {
+		int position = Arrays.binarySearch(names, key);
+		if (position < 0) {
+			return -position - 1;
+		}
+		return position + 1;
+	}
+}
@@ -0,0 +1,11 @@
+package store.domain.stock;
+
+import java.util.List;
+
+import store.domain.product.Product;
+
+public record CatalogPage(List<Product> products, String nextCursor) {
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
@@ -0,0 +1,51 @@
+package store.domain.stock;
+
+import store.validator.stock.StockValidateMessage;
+
+public record CatalogQuery(
+	String keyword,
+	boolean substringMatch,
+	boolean inPromotionOnly,
+	boolean inStockOnly,
+	String cursor,
+	int pageSize
+) {
+	private static final String NO_KEYWORD = "";
+
+	public CatalogQuery {
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException(StockValidateMessage.INVALID_PAGE_SIZE.getMessage());
+		}
+		if (keyword == null) {
+			keyword = NO_KEYWORD;
+		}
+	}
+
+	public static CatalogQuery firstPage(int pageSize) {
+		return new CatalogQuery(NO_KEYWORD, false, false, false, null, pageSize);
+	}
+
+	public CatalogQuery withPrefix(String prefix) {
+		return new CatalogQuery(prefix, false, inPromotionOnly, inStockOnly, cursor, pageSize);
+	}
+
+	public CatalogQuery containing(String substring) {
+		return new CatalogQuery(substring, true, inPromotionOnly, inStockOnly, cursor, pageSize);
+	}
+
+	public CatalogQuery inPromotion() {
+		return new CatalogQuery(keyword, substringMatch, true, inStockOnly, cursor, pageSize);
+	}
+
+	public CatalogQuery inStock() {
+		return new CatalogQuery(keyword, substringMatch, inPromotionOnly, true, cursor, pageSize);
+	}
+
+	public CatalogQuery after(String cursor) {
+		return new CatalogQuery(keyword, substringMatch, inPromotionOnly, inStockOnly, cursor, pageSize);
+	}
+
+	public boolean hasCursor() {
+		return cursor != null;
+	}
+}
@@ -0,0 +1,25 @@
+package store.domain.stock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class ReservationReaper {
+	private final ScheduledExecutorService scheduler;
+
+	private ReservationReaper(Stock stock, Duration interval) {
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().factory());
+		scheduler.scheduleWithFixedDelay(() -> stock.releaseExpiredReservations(Instant.now()),
+			interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	public static ReservationReaper start(Stock stock, Duration interval) {
+		return new ReservationReaper(stock, interval);
+	}
+
+	public void stop() {
+		scheduler.shutdownNow();
+	}
+}
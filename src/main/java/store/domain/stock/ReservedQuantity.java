@@ -0,0 +1,13 @@
+package store.domain.stock;
+
+import store.domain.product.Product;
+
+public record ReservedQuantity(Product product, int quantity) {
+	public boolean tryReserve() {
+		return product.tryReserve(quantity);
+	}
+
+	public void release() {
+		product.restoreQuantity(quantity);
+	}
+}
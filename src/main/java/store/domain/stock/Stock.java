@@ -1,10 +1,21 @@
 package store.domain.stock;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PrimitiveIterator;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import store.domain.order.OrderItem;
 import store.domain.order.OrderLineItem;
@@ -13,15 +24,35 @@ import store.domain.product.Product;
 import store.domain.product.PromotionOrderResult;
 import store.domain.product.PromotionOrderStatus;
 import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionActivity;
+import store.domain.promotion.PromotionCalendar;
 import store.validator.stock.StockValidateMessage;
 
 public class Stock {
+	private static final Duration RESERVATION_TIME_TO_LIVE = Duration.ofMinutes(5);
+
 	private final List<Product> products;
+	private final Map<String, StockItem> stockItems;
+	private volatile CatalogIndex catalogIndex;
+	private final Map<Long, StockReservation> reservations;
+	private final AtomicLong reservationSequence;
+	private final List<IntConsumer> quantityListeners;
+	private final PromotionActivity promotionActivity;
+	private volatile StockJournal journal;
 
 	private Stock(List<Product> products) {
 		validateDuplicateProduct(products);
-		validateDuplicatePromotion(products);
-		this.products = addOutOfStockVersions(products);
+		Map<String, List<Product>> schedules = findPromotionSchedules(products);
+		validatePromotionSchedules(schedules);
+		this.promotionActivity = PromotionActivity.of(findPromotions(products),
+			PromotionCalendar.of(findScheduledPromotions(schedules)));
+		this.products = addOutOfStockVersions(mergePromotionSchedules(products, schedules));
+		this.stockItems = createStockItems(this.products);
+		this.reservations = new ConcurrentHashMap<>();
+		this.reservationSequence = new AtomicLong();
+		this.quantityListeners = new CopyOnWriteArrayList<>();
+		IntStream.range(0, this.products.size())
+			.forEach(index -> this.products.get(index).onQuantityChanged(() -> notifyQuantityChanged(index)));
 	}
 
 	public static Stock from(List<Product> products) {
@@ -38,16 +69,58 @@ public class Stock {
 		}
 	}
 
-	private void validateDuplicatePromotion(List<Product> products) {
-		Map<String, Long> promotionCount = products.stream()
+	private Map<String, List<Product>> findPromotionSchedules(List<Product> products) {
+		return products.stream()
 			.filter(Product::hasPromotion)
-			.collect(Collectors.groupingBy(Product::getName, Collectors.counting()));
+			.collect(Collectors.groupingBy(Product::getName));
+	}
+
+	private void validatePromotionSchedules(Map<String, List<Product>> schedules) {
+		schedules.values().forEach(schedule -> {
+			validateSchedulePrice(schedule);
+			validateDuplicatePromotion(schedule);
+		});
+	}
+
+	private void validateSchedulePrice(List<Product> schedule) {
+		int price = schedule.getFirst().getPrice();
+		if (schedule.stream().anyMatch(product -> product.getPrice() != price)) {
+			throw new IllegalArgumentException(StockValidateMessage.INVALID_SCHEDULED_PRICE.getMessage());
+		}
+	}
 
-		if (promotionCount.values().stream().anyMatch(count -> count > 1)) {
+	private void validateDuplicatePromotion(List<Product> schedule) {
+		long promotionCount = schedule.stream()
+			.map(product -> product.getPromotion().getName())
+			.distinct()
+			.count();
+		if (promotionCount != schedule.size()) {
 			throw new IllegalArgumentException(StockValidateMessage.INVALID_DUPLICATE_PROMOTIONS.getMessage());
 		}
 	}
 
+	private List<Product> mergePromotionSchedules(List<Product> products, Map<String, List<Product>> schedules) {
+		List<Product> result = new ArrayList<>();
+		products.forEach(product -> addScheduledProduct(result, product, schedules.get(product.getName())));
+		return result;
+	}
+
+	private Map<String, List<Promotion>> findScheduledPromotions(Map<String, List<Product>> schedules) {
+		return schedules.entrySet().stream()
+			.filter(schedule -> schedule.getValue().size() > 1)
+			.collect(Collectors.toMap(Map.Entry::getKey, schedule -> findPromotions(schedule.getValue())));
+	}
+
+	private void addScheduledProduct(List<Product> result, Product product, List<Product> schedule) {
+		if (!product.hasPromotion() || schedule.size() == 1) {
+			result.add(product);
+			return;
+		}
+		if (schedule.getFirst() == product) {
+			result.add(Product.scheduled(schedule, promotionActivity));
+		}
+	}
+
 	private List<Product> addOutOfStockVersions(List<Product> products) {
 		Set<String> hasNormalVersions = findProductsWithNormalVersion(products);
 		List<Product> result = new ArrayList<>();
@@ -82,63 +155,344 @@ public class Stock {
 		);
 	}
 
+	private List<Promotion> findPromotions(List<Product> products) {
+		return products.stream()
+			.filter(Product::hasPromotion)
+			.map(Product::getPromotion)
+			.toList();
+	}
+
+	private Map<String, StockItem> createStockItems(List<Product> products) {
+		Map<String, StockItem> result = new HashMap<>();
+		products.forEach(product -> result.merge(product.getName(), StockItem.from(product), StockItem::merge));
+		return result;
+	}
+
 	public List<Product> getProducts() {
 		return products;
 	}
 
+	public void onQuantityChanged(IntConsumer listener) {
+		quantityListeners.add(listener);
+	}
+
+	private void notifyQuantityChanged(int index) {
+		quantityListeners.forEach(listener -> listener.accept(index));
+	}
+
+	public CatalogPage query(CatalogQuery query) {
+		CatalogIndex index = catalogIndex();
+		PrimitiveIterator.OfInt positions = index.search(query);
+		List<Integer> matches = new ArrayList<>();
+		while (positions.hasNext() && matches.size() <= query.pageSize()) {
+			int position = positions.nextInt();
+			if (matchesFilters(index.get(position), query)) {
+				matches.add(position);
+			}
+		}
+		return toPage(index, matches, query.pageSize());
+	}
+
+	private CatalogIndex catalogIndex() {
+		CatalogIndex current = catalogIndex;
+		if (current == null) {
+			current = buildCatalogIndex();
+		}
+		return current;
+	}
+
+	private synchronized CatalogIndex buildCatalogIndex() {
+		if (catalogIndex == null) {
+			catalogIndex = CatalogIndex.from(stockItems);
+		}
+		return catalogIndex;
+	}
+
+	private boolean matchesFilters(StockItem stockItem, CatalogQuery query) {
+		if (query.inPromotionOnly() && !isInPromotion(stockItem.promotionProduct())) {
+			return false;
+		}
+		return !query.inStockOnly() || getTotalQuantity(stockItem) > 0;
+	}
+
+	private boolean isInPromotion(Product promotionProduct) {
+		return promotionProduct != null && validatePromotionValidity(promotionProduct);
+	}
+
+	private int getTotalQuantity(StockItem stockItem) {
+		return getQuantity(stockItem.promotionProduct()) + getQuantity(stockItem.normalProduct());
+	}
+
+	private int getQuantity(Product product) {
+		if (product == null) {
+			return 0;
+		}
+		return product.getQuantity();
+	}
+
+	private CatalogPage toPage(CatalogIndex index, List<Integer> matches, int pageSize) {
+		List<Product> pageProducts = new ArrayList<>();
+		matches.stream().limit(pageSize).forEach(position -> addProducts(pageProducts, index.get(position)));
+		if (matches.size() <= pageSize) {
+			return new CatalogPage(pageProducts, null);
+		}
+		return new CatalogPage(pageProducts, index.nameAt(matches.get(pageSize - 1)));
+	}
+
+	private void addProducts(List<Product> pageProducts, StockItem stockItem) {
+		if (stockItem.promotionProduct() != null) {
+			pageProducts.add(stockItem.promotionProduct());
+		}
+		if (stockItem.normalProduct() != null) {
+			pageProducts.add(stockItem.normalProduct());
+		}
+	}
+
 	public void validateOrderItems(List<OrderItem> orderItems) {
 		List<String> orderNames = orderItems.stream()
 			.map(OrderItem::name)
 			.toList();
 		validateNames(orderNames);
-		for (OrderItem orderItem : orderItems) {
-			validateOrderItem(orderItem);
-		}
+		orderItems.forEach(this::validateOrderItem);
 	}
 
 	public boolean isPromotionAndValidPromotion(OrderItem orderItem) {
+		return isPromotionAndValidPromotion(orderItem, StockReservation.none());
+	}
+
+	public boolean isPromotionAndValidPromotion(OrderItem orderItem, StockReservation reservation) {
 		Product findProduct = findPromotionProductByName(orderItem.name());
 		if (findProduct == null) {
 			return false;
 		}
 		Promotion promotion = findProduct.getPromotion();
-		return findProduct.getQuantity() > 0 && promotion.isValidPromotion();
+		return getVisibleQuantity(findProduct, reservation) > 0 && promotionActivity.isActive(promotion);
 	}
 
 	public PromotionOrderStatus getPromotionOrderStatus(OrderItem orderItem) {
+		return getPromotionOrderStatus(orderItem, StockReservation.none());
+	}
+
+	public PromotionOrderStatus getPromotionOrderStatus(OrderItem orderItem, StockReservation reservation) {
 		Product findProduct = findPromotionProductByName(orderItem.name());
-		if (findProduct.getQuantity() > 0 && findProduct.getQuantity() < orderItem.quantity()) {
-			return calculateRemainQuantity(findProduct, orderItem);
+		int promotionStock = getVisibleQuantity(findProduct, reservation);
+		if (promotionStock > 0 && promotionStock < orderItem.quantity()) {
+			return calculateRemainQuantity(findProduct, promotionStock, orderItem);
+		}
+		return calculateFreeQuantity(findProduct, promotionStock, orderItem);
+	}
+
+	private int getVisibleQuantity(Product product, StockReservation reservation) {
+		return product.getQuantity() + reservation.getReservedQuantity(product);
+	}
+
+	public StockReservation reserve(List<OrderItem> orderItems) {
+		return reserve(orderItems, RESERVATION_TIME_TO_LIVE);
+	}
+
+	public StockReservation reserve(List<OrderItem> orderItems, Duration timeToLive) {
+		validateNames(orderItems.stream().map(OrderItem::name).toList());
+		List<ReservedQuantity> reservedQuantities = new ArrayList<>();
+		try {
+			orderItems.forEach(orderItem -> reserveOrderItem(reservedQuantities, orderItem));
+		} catch (IllegalStateException outOfStock) {
+			reservedQuantities.forEach(ReservedQuantity::release);
+			throw outOfStock;
+		}
+		StockReservation reservation = StockReservation.of(reservationSequence.incrementAndGet(), orderItems,
+			reservedQuantities, Instant.now().plus(timeToLive));
+		reservations.put(reservation.getId(), reservation);
+		return reservation;
+	}
+
+	private void reserveOrderItem(List<ReservedQuantity> reservedQuantities, OrderItem orderItem) {
+		int promotionQuantity = reservePromotionQuantity(reservedQuantities, orderItem);
+		int normalQuantity = orderItem.quantity() - promotionQuantity;
+		if (normalQuantity > 0) {
+			ReservedQuantity normalReservation = new ReservedQuantity(findNormalProductByName(orderItem.name()),
+				normalQuantity);
+			reserveAll(List.of(normalReservation));
+			reservedQuantities.add(normalReservation);
+		}
+	}
+
+	private int reservePromotionQuantity(List<ReservedQuantity> reservedQuantities, OrderItem orderItem) {
+		Product promotionProduct = findPromotionProductByName(orderItem.name());
+		if (promotionProduct == null || !validatePromotionValidity(promotionProduct)) {
+			return 0;
+		}
+		int promotionQuantity = promotionProduct.reserveUpTo(orderItem.quantity());
+		if (promotionQuantity > 0) {
+			reservedQuantities.add(new ReservedQuantity(promotionProduct, promotionQuantity));
 		}
-		return calculateFreeQuantity(findProduct, orderItem);
+		return promotionQuantity;
+	}
+
+	public void commit(StockReservation reservation, List<OrderLineItem> orderLineItems) {
+		record(reservation.getId(), adjust(reservation, orderLineItems));
+	}
+
+	public CompletableFuture<Void> commitAsync(StockReservation reservation, List<OrderLineItem> orderLineItems) {
+		return recordAsync(reservation.getId(), adjust(reservation, orderLineItems));
+	}
+
+	private List<ReservedQuantity> adjust(StockReservation reservation, List<OrderLineItem> orderLineItems) {
+		List<ReservedQuantity> reservedQuantities = settle(reservation);
+		List<ReservedQuantity> requiredQuantities = findRequiredQuantities(orderLineItems);
+		try {
+			reserveAll(findDifferences(requiredQuantities, reservedQuantities));
+		} catch (IllegalStateException outOfStock) {
+			reservedQuantities.forEach(ReservedQuantity::release);
+			throw outOfStock;
+		}
+		findDifferences(reservedQuantities, requiredQuantities).forEach(ReservedQuantity::release);
+		return requiredQuantities;
+	}
+
+	public void release(StockReservation reservation) {
+		settle(reservation).forEach(ReservedQuantity::release);
+	}
+
+	public int releaseExpiredReservations(Instant now) {
+		List<StockReservation> expiredReservations = reservations.values().stream()
+			.filter(reservation -> reservation.isExpired(now))
+			.toList();
+		expiredReservations.forEach(this::release);
+		return expiredReservations.size();
+	}
+
+	private List<ReservedQuantity> settle(StockReservation reservation) {
+		reservations.remove(reservation.getId());
+		return reservation.settle();
+	}
+
+	private List<ReservedQuantity> findDifferences(List<ReservedQuantity> minuends,
+		List<ReservedQuantity> subtrahends) {
+		return minuends.stream()
+			.map(minuend -> new ReservedQuantity(minuend.product(),
+				minuend.quantity() - sumQuantity(subtrahends, minuend.product())))
+			.filter(difference -> difference.quantity() > 0)
+			.toList();
+	}
+
+	private int sumQuantity(List<ReservedQuantity> reservedQuantities, Product product) {
+		return reservedQuantities.stream()
+			.filter(reservedQuantity -> reservedQuantity.product() == product)
+			.mapToInt(ReservedQuantity::quantity)
+			.sum();
 	}
 
 	public void deductStocks(List<OrderLineItem> orderLineItems) {
-		orderLineItems.forEach(this::deductStockForOrder);
+		List<ReservedQuantity> requiredQuantities = findRequiredQuantities(orderLineItems);
+		reserveAll(requiredQuantities);
+		record(reservationSequence.incrementAndGet(), requiredQuantities);
 	}
 
-	private void deductStockForOrder(OrderLineItem orderLineItem) {
-		deductPromotionStock(orderLineItem);
-		deductNormalStock(orderLineItem);
+	public void attach(StockJournal journal) {
+		this.journal = journal;
 	}
 
-	private void deductPromotionStock(OrderLineItem orderLineItem) {
-		Product promotionProduct = findPromotionProductByName(orderLineItem.getName());
-		if (promotionProduct != null && orderLineItem.isPromotionApplied()) {
-			promotionProduct.deductQuantity(orderLineItem.getPromotionQuantity());
+	public void replay(long orderId, List<StockDeduction> deductions) {
+		deductions.forEach(this::applyDeduction);
+		reservationSequence.accumulateAndGet(orderId, Math::max);
+	}
+
+	private void applyDeduction(StockDeduction deduction) {
+		Product product = findProduct(deduction.name(), deduction.promotion());
+		if (product != null) {
+			product.deductQuantity(deduction.quantity());
+		}
+	}
+
+	public List<StockQuantity> getQuantities() {
+		return products.stream()
+			.map(product -> new StockQuantity(product.getName(), product.hasPromotion(), product.getQuantity()))
+			.toList();
+	}
+
+	public void restore(List<StockQuantity> quantities) {
+		quantities.forEach(this::restoreQuantity);
+	}
+
+	private void restoreQuantity(StockQuantity quantity) {
+		Product product = findProduct(quantity.name(), quantity.promotion());
+		if (product != null) {
+			product.deductQuantity(product.getQuantity() - quantity.quantity());
+		}
+	}
+
+	private Product findProduct(String name, boolean promotion) {
+		if (promotion) {
+			return findPromotionProductByName(name);
+		}
+		return findNormalProductByName(name);
+	}
+
+	private void record(long orderId, List<ReservedQuantity> requiredQuantities) {
+		try {
+			recordAsync(orderId, requiredQuantities).join();
+		} catch (CompletionException journalFailure) {
+			throw (RuntimeException)journalFailure.getCause();
+		}
+	}
+
+	private CompletableFuture<Void> recordAsync(long orderId, List<ReservedQuantity> requiredQuantities) {
+		StockJournal currentJournal = journal;
+		if (currentJournal == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		try {
+			return currentJournal.appendAsync(orderId, toDeductions(requiredQuantities))
+				.whenComplete((written, journalFailure) -> releaseIfFailed(requiredQuantities, journalFailure));
+		} catch (RuntimeException journalFailure) {
+			requiredQuantities.forEach(ReservedQuantity::release);
+			throw journalFailure;
+		}
+	}
+
+	private void releaseIfFailed(List<ReservedQuantity> requiredQuantities, Throwable journalFailure) {
+		if (journalFailure != null) {
+			requiredQuantities.forEach(ReservedQuantity::release);
 		}
 	}
 
-	private void deductNormalStock(OrderLineItem orderLineItem) {
+	private List<StockDeduction> toDeductions(List<ReservedQuantity> requiredQuantities) {
+		return requiredQuantities.stream()
+			.map(required -> new StockDeduction(required.product().getName(), required.product().hasPromotion(),
+				required.quantity()))
+			.toList();
+	}
+
+	private List<ReservedQuantity> findRequiredQuantities(List<OrderLineItem> orderLineItems) {
+		List<ReservedQuantity> requiredQuantities = new ArrayList<>();
+		orderLineItems.forEach(orderLineItem -> addRequiredQuantities(requiredQuantities, orderLineItem));
+		return requiredQuantities;
+	}
+
+	private void addRequiredQuantities(List<ReservedQuantity> requiredQuantities, OrderLineItem orderLineItem) {
+		Product promotionProduct = findPromotionProductByName(orderLineItem.getName());
+		if (promotionProduct != null && orderLineItem.isPromotionApplied()) {
+			requiredQuantities.add(new ReservedQuantity(promotionProduct, orderLineItem.getPromotionQuantity()));
+		}
 		if (orderLineItem.getNormalQuantity() > 0) {
 			Product normalProduct = findNormalProductByName(orderLineItem.getName());
-			normalProduct.deductQuantity(orderLineItem.getNormalQuantity());
+			requiredQuantities.add(new ReservedQuantity(normalProduct, orderLineItem.getNormalQuantity()));
+		}
+	}
+
+	private void reserveAll(List<ReservedQuantity> requiredQuantities) {
+		List<ReservedQuantity> reservedQuantities = new ArrayList<>();
+		for (ReservedQuantity requiredQuantity : requiredQuantities) {
+			if (!requiredQuantity.tryReserve()) {
+				reservedQuantities.forEach(ReservedQuantity::release);
+				throw new IllegalStateException(StockValidateMessage.INVALID_ORDER_OUT_OF_STOCK.getMessage());
+			}
+			reservedQuantities.add(requiredQuantity);
 		}
 	}
 
-	private PromotionOrderStatus calculateRemainQuantity(Product findProduct, OrderItem orderItem) {
+	private PromotionOrderStatus calculateRemainQuantity(Product findProduct, int stock, OrderItem orderItem) {
 		Promotion promotion = findProduct.getPromotion();
-		int stock = findProduct.getQuantity();
 		int orderQuantity = orderItem.quantity();
 		int normalQuantity = orderQuantity - stock;
 		int freeQuantity = stock / (promotion.getBuy() + 1);
@@ -154,9 +508,9 @@ public class Stock {
 		);
 	}
 
-	private PromotionOrderStatus calculateFreeQuantity(Product findProduct, OrderItem orderItem) {
+	private PromotionOrderStatus calculateFreeQuantity(Product findProduct, int stock, OrderItem orderItem) {
 		Promotion promotion = findProduct.getPromotion();
-		if (orderItem.quantity() < findProduct.getQuantity() && orderItem.quantity() % promotion.getBuy() == 0) {
+		if (orderItem.quantity() < stock && orderItem.quantity() % promotion.getBuy() == 0) {
 			return new PromotionOrderStatus(
 				PromotionOrderResult.BELOW_QUANTITY,
 				-1,
@@ -183,11 +537,7 @@ public class Stock {
 	}
 
 	private void validateNames(List<String> orderNames) {
-		Set<String> productsNames = products.stream()
-			.map(Product::getName)
-			.collect(Collectors.toSet());
-
-		if (!productsNames.containsAll(orderNames)) {
+		if (!orderNames.stream().allMatch(stockItems::containsKey)) {
 			throw new IllegalStateException(StockValidateMessage.INVALID_ORDER_PRODUCT.getMessage());
 		}
 	}
@@ -199,39 +549,30 @@ public class Stock {
 			validatePromotionOrder(promotionProduct, normalProduct, orderItem.quantity());
 			return;
 		}
-		validateNormalOrderStock(normalProduct, orderItem.quantity());
+		validateEnoughStock(normalProduct, orderItem.quantity());
 	}
 
 	private Product findPromotionProductByName(String name) {
-		return products.stream()
-			.filter(p -> p.getName().equals(name))
-			.filter(Product::hasPromotion)
-			.findFirst()
-			.orElse(null);
+		return stockItems.getOrDefault(name, StockItem.EMPTY).promotionProduct();
 	}
 
 	private Product findNormalProductByName(String name) {
-		return products.stream()
-			.filter(p -> p.getName().equals(name))
-			.filter(p -> !p.hasPromotion())
-			.findFirst()
-			.orElse(null);
+		return stockItems.getOrDefault(name, StockItem.EMPTY).normalProduct();
 	}
 
 	private void validatePromotionOrder(Product promotionProduct, Product normalProduct, int quantity) {
 		if (!validatePromotionValidity(promotionProduct)) {
-			validateNormalOrderStock(normalProduct, quantity);
+			validateEnoughStock(normalProduct, quantity);
 			return;
 		}
 		int remainQuantity = validatePromotionStock(promotionProduct, quantity);
 		if (remainQuantity > 0) {
-			validateNormalOrderStock(normalProduct, remainQuantity);
+			validateEnoughStock(normalProduct, remainQuantity);
 		}
 	}
 
 	private boolean validatePromotionValidity(Product promotionProduct) {
-		Promotion promotion = promotionProduct.getPromotion();
-		return promotion.isValidPromotion();
+		return promotionActivity.isActive(promotionProduct.getPromotion());
 	}
 
 	private int validatePromotionStock(Product promotionProduct, int quantity) {
@@ -241,8 +582,8 @@ public class Stock {
 		return 0;
 	}
 
-	private void validateNormalOrderStock(Product normalProduct, int orderQuantity) {
-		if (normalProduct.getQuantity() < orderQuantity) {
+	private void validateEnoughStock(Product product, int orderQuantity) {
+		if (product.getQuantity() < orderQuantity) {
 			throw new IllegalStateException(StockValidateMessage.INVALID_ORDER_OUT_OF_STOCK.getMessage());
 		}
 	}
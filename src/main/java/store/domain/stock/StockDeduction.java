@@ -0,0 +1,4 @@
+package store.domain.stock;
+
+public record StockDeduction(String name, boolean promotion, int quantity) {
+}
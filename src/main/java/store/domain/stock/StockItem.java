@@ -0,0 +1,28 @@
+package store.domain.stock;
+
+import store.domain.product.Product;
+
+public record StockItem(Product promotionProduct, Product normalProduct) {
+	public static final StockItem EMPTY = new StockItem(null, null);
+
+	public static StockItem from(Product product) {
+		if (product.hasPromotion()) {
+			return new StockItem(product, null);
+		}
+		return new StockItem(null, product);
+	}
+
+	public StockItem merge(StockItem other) {
+		return new StockItem(
+			firstPresent(promotionProduct, other.promotionProduct),
+			firstPresent(normalProduct, other.normalProduct)
+		);
+	}
+
+	private static Product firstPresent(Product current, Product other) {
+		if (current != null) {
+			return current;
+		}
+		return other;
+	}
+}
@@ -0,0 +1,13 @@
+package store.domain.stock;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface StockJournal extends AutoCloseable {
+	void append(long orderId, List<StockDeduction> deductions);
+
+	CompletableFuture<Void> appendAsync(long orderId, List<StockDeduction> deductions);
+
+	@Override
+	void close();
+}
@@ -0,0 +1,69 @@
+package store.domain.stock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import store.domain.order.OrderItem;
+import store.domain.product.Product;
+
+public class StockReservation {
+	private static final StockReservation NONE = new StockReservation(0, List.of(), List.of(), Instant.MAX, true);
+
+	private final long id;
+	private final List<OrderItem> orderItems;
+	private final List<ReservedQuantity> reservedQuantities;
+	private final Instant expiresAt;
+	private final AtomicBoolean settled;
+
+	private StockReservation(long id, List<OrderItem> orderItems, List<ReservedQuantity> reservedQuantities,
+		Instant expiresAt, boolean settled) {
+		this.id = id;
+		this.orderItems = orderItems;
+		this.reservedQuantities = reservedQuantities;
+		this.expiresAt = expiresAt;
+		this.settled = new AtomicBoolean(settled);
+	}
+
+	public static StockReservation of(long id, List<OrderItem> orderItems, List<ReservedQuantity> reservedQuantities,
+		Instant expiresAt) {
+		return new StockReservation(id, orderItems, List.copyOf(reservedQuantities), expiresAt, false);
+	}
+
+	public static StockReservation none() {
+		return NONE;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public List<OrderItem> getOrderItems() {
+		return orderItems;
+	}
+
+	public boolean isExpired(Instant now) {
+		return !now.isBefore(expiresAt);
+	}
+
+	public boolean isSettled() {
+		return settled.get();
+	}
+
+	public int getReservedQuantity(Product product) {
+		if (isSettled()) {
+			return 0;
+		}
+		return reservedQuantities.stream()
+			.filter(reservedQuantity -> reservedQuantity.product() == product)
+			.mapToInt(ReservedQuantity::quantity)
+			.sum();
+	}
+
+	List<ReservedQuantity> settle() {
+		if (settled.compareAndSet(false, true)) {
+			return reservedQuantities;
+		}
+		return List.of();
+	}
+}
@@ -0,0 +1,118 @@
+package store.domain.stock;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+class SuffixArray {
+	private final String[] names;
+	private final int[] suffixNames;
+	private final int[] suffixOffsets;
+
+	private SuffixArray(String[] names, int[] suffixNames, int[] suffixOffsets) {
+		this.names = names;
+		this.suffixNames = suffixNames;
+		this.suffixOffsets = suffixOffsets;
+	}
+
+	static SuffixArray of(String[] names) {
+		int suffixCount = Arrays.stream(names).mapToInt(String::length).sum();
+		int[] suffixNames = new int[suffixCount];
+		int[] suffixOffsets = new int[suffixCount];
+		int suffix = 0;
+		for (int nameIndex = 0; nameIndex < names.length; nameIndex++) {
+			for (int offset = 0; offset < names[nameIndex].length(); offset++) {
+				suffixNames[suffix] = nameIndex;
+				suffixOffsets[suffix++] = offset;
+			}
+		}
+		return new SuffixArray(names, suffixNames, suffixOffsets).sorted();
+	}
+
+	private SuffixArray sorted() {
+		int[] order = IntStream.range(0, suffixNames.length).toArray();
+		int[] buffer = new int[order.length];
+		for (int width = 1; width < order.length; width *= 2) {
+			for (int low = 0; low < order.length - width; low += width * 2) {
+				merge(order, buffer, low, low + width, Math.min(low + width * 2, order.length));
+			}
+		}
+		int[] sortedNames = Arrays.stream(order).map(suffix -> suffixNames[suffix]).toArray();
+		int[] sortedOffsets = Arrays.stream(order).map(suffix -> suffixOffsets[suffix]).toArray();
+		return new SuffixArray(names, sortedNames, sortedOffsets);
+	}
+
+	private void merge(int[] order, int[] buffer, int low, int middle, int high) {
+		System.arraycopy(order, low, buffer, low, high - low);
+		int left = low;
+		int right = middle;
+		for (int index = low; index < high; index++) {
+			if (right >= high || left < middle && compareSuffixes(buffer[left], buffer[right]) <= 0) {
+				order[index] = buffer[left++];
+				continue;
+			}
+			order[index] = buffer[right++];
+		}
+	}
+
+	private int compareSuffixes(int left, int right) {
+		String leftName = names[suffixNames[left]];
+		String rightName = names[suffixNames[right]];
+		int leftOffset = suffixOffsets[left];
+		int rightOffset = suffixOffsets[right];
+		int length = Math.min(leftName.length() - leftOffset, rightName.length() - rightOffset);
+		for (int index = 0; index < length; index++) {
+			int difference = leftName.charAt(leftOffset + index) - rightName.charAt(rightOffset + index);
+			if (difference != 0) {
+				return difference;
+			}
+		}
+		return (leftName.length() - leftOffset) - (rightName.length() - rightOffset);
+	}
+
+	int lowerBound(String keyword) {
+		return bound(keyword, 0);
+	}
+
+	int upperBound(String keyword) {
+		return bound(keyword, 1);
+	}
+
+	private int bound(String keyword, int threshold) {
+		int low = 0;
+		int high = suffixNames.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (comparePrefix(middle, keyword) < threshold) {
+				low = middle + 1;
+				continue;
+			}
+			high = middle;
+		}
+		return low;
+	}
+
+	private int comparePrefix(int suffix, String keyword) {
+		String name = names[suffixNames[suffix]];
+		int offset = suffixOffsets[suffix];
+		int length = Math.min(name.length() - offset, keyword.length());
+		for (int index = 0; index < length; index++) {
+			int difference = name.charAt(offset + index) - keyword.charAt(index);
+			if (difference != 0) {
+				return difference;
+			}
+		}
+		if (length < keyword.length()) {
+			return -1;
+		}
+		return 0;
+	}
+
+	int[] findNames(int from, int to, int start) {
+		return IntStream.range(from, to)
+			.map(suffix -> suffixNames[suffix])
+			.filter(nameIndex -> nameIndex >= start)
+			.sorted()
+			.distinct()
+			.toArray();
+	}
+}
@@ -1,20 +1,45 @@
 package store.io;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
 import camp.nextstep.edu.missionutils.Console;
 
 public class InputHandler {
-	private InputHandler() {
+	private final Supplier<String> lineReader;
+
+	private InputHandler(Supplier<String> lineReader) {
+		this.lineReader = lineReader;
 	}
 
 	private static class Holder {
-		private static final InputHandler INSTANCE = new InputHandler();
+		private static final InputHandler INSTANCE = new InputHandler(Console::readLine);
 	}
 
 	public static InputHandler getInstance() {
 		return Holder.INSTANCE;
 	}
 
+	public static InputHandler from(BufferedReader reader) {
+		return new InputHandler(() -> readLine(reader));
+	}
+
+	private static String readLine(BufferedReader reader) {
+		try {
+			String line = reader.readLine();
+			if (line == null) {
+				throw new NoSuchElementException();
+			}
+			return line;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	public String readLine() {
-		return Console.readLine();
+		return lineReader.get();
 	}
 }
@@ -1,12 +1,14 @@
 package store.io;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import store.domain.order.Order;
 import store.domain.order.OrderItem;
 import store.domain.product.PrimitiveProductInfo;
-import store.domain.product.Product;
 import store.domain.promotion.PrimitivePromotionInfo;
+import store.io.receipt.ConsoleReceiptSink;
+import store.io.receipt.ReceiptSink;
 import store.validator.input.InputValidatingParser;
 
 public class IoHandler {
@@ -14,13 +16,15 @@ public class IoHandler {
 	private final OutputHandler outputHandler;
 	private final ResourceHandler resourceHandler;
 	private final InputValidatingParser inputValidatingParser;
+	private final ReceiptSink receiptSink;
 
 	private IoHandler(InputHandler inputHandler, OutputHandler outputHandler, ResourceHandler resourceHandler,
-		InputValidatingParser inputValidatingParser) {
+		InputValidatingParser inputValidatingParser, ReceiptSink receiptSink) {
 		this.inputHandler = inputHandler;
 		this.outputHandler = outputHandler;
 		this.resourceHandler = resourceHandler;
 		this.inputValidatingParser = inputValidatingParser;
+		this.receiptSink = receiptSink;
 	}
 
 	private static class Holder {
@@ -28,13 +32,23 @@ public class IoHandler {
 			InputHandler.getInstance(),
 			OutputHandler.getInstance(),
 			ResourceHandler.getInstance(),
-			InputValidatingParser.getInstance());
+			InputValidatingParser.getInstance(),
+			ConsoleReceiptSink.from(OutputHandler.getInstance()));
 	}
 
 	public static IoHandler getInstance() {
 		return Holder.INSTANCE;
 	}
 
+	public static IoHandler of(InputHandler inputHandler, OutputHandler outputHandler) {
+		return new IoHandler(inputHandler, outputHandler, ResourceHandler.getInstance(),
+			InputValidatingParser.getInstance(), ConsoleReceiptSink.from(outputHandler));
+	}
+
+	public IoHandler withReceiptSink(ReceiptSink receiptSink) {
+		return new IoHandler(inputHandler, outputHandler, resourceHandler, inputValidatingParser, receiptSink);
+	}
+
 	public List<PrimitiveProductInfo> getPrimitiveProductInfos(String filePathName) {
 		return resourceHandler.readProductFrom(filePathName);
 	}
@@ -43,9 +57,17 @@ public class IoHandler {
 		return resourceHandler.readPromotionFrom(filePathName);
 	}
 
-	public void showSellingProducts(List<Product> products) {
+	public List<PrimitiveProductInfo> getPrimitiveProductInfos(Path filePath) {
+		return resourceHandler.readProductFrom(filePath);
+	}
+
+	public List<PrimitivePromotionInfo> getPrimitivePromotionInfos(Path filePath) {
+		return resourceHandler.readPromotionFrom(filePath);
+	}
+
+	public void showSellingProducts(ProductListingRenderer productListingRenderer) {
 		outputHandler.showWelcomeMessage();
-		products.forEach(outputHandler::showProduct);
+		outputHandler.showProductListing(productListingRenderer);
 	}
 
 	public List<OrderItem> getOrderItems() {
@@ -97,7 +119,11 @@ public class IoHandler {
 	}
 
 	public void showReceipt(Order order) {
-		outputHandler.showReceipt(order);
+		receiptSink.accept(order);
+	}
+
+	public void closeReceiptSink() {
+		receiptSink.close();
 	}
 
 	public String getContinue() {
@@ -0,0 +1,98 @@
+package store.io;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class MappedLineReader implements AutoCloseable {
+	private static final long WINDOW_SIZE = 1L << 30;
+	private static final int INITIAL_LINE_CAPACITY = 256;
+	private static final byte LINE_FEED = '\n';
+	private static final byte CARRIAGE_RETURN = '\r';
+
+	private final FileChannel channel;
+	private final long size;
+	private long windowPosition;
+	private MappedByteBuffer window;
+	private int offset;
+	private byte[] lineBytes;
+
+	private MappedLineReader(FileChannel channel, long size) {
+		this.channel = channel;
+		this.size = size;
+		this.lineBytes = new byte[INITIAL_LINE_CAPACITY];
+	}
+
+	public static MappedLineReader open(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		MappedLineReader reader = new MappedLineReader(channel, channel.size());
+		reader.mapWindow(0);
+		return reader;
+	}
+
+	public String readLine() throws IOException {
+		int lineEnd = findLineFeed();
+		if (lineEnd < 0 && !isLastWindow()) {
+			mapWindow(windowPosition + offset);
+			lineEnd = findLineFeed();
+		}
+		if (lineEnd < 0) {
+			return readLastLine();
+		}
+		String line = decode(offset, lineEnd);
+		offset = lineEnd + 1;
+		return line;
+	}
+
+	private String readLastLine() throws IOException {
+		if (!isLastWindow()) {
+			throw new IOException();
+		}
+		if (offset == window.limit()) {
+			return null;
+		}
+		String line = decode(offset, window.limit());
+		offset = window.limit();
+		return line;
+	}
+
+	private int findLineFeed() {
+		for (int index = offset; index < window.limit(); index++) {
+			if (window.get(index) == LINE_FEED) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private String decode(int start, int end) {
+		int length = end - start;
+		if (length > 0 && window.get(end - 1) == CARRIAGE_RETURN) {
+			length--;
+		}
+		if (lineBytes.length < length) {
+			lineBytes = Arrays.copyOf(lineBytes, Math.max(length, lineBytes.length * 2));
+		}
+		window.get(start, lineBytes, 0, length);
+		return new String(lineBytes, 0, length, StandardCharsets.UTF_8);
+	}
+
+	private boolean isLastWindow() {
+		return windowPosition + window.limit() == size;
+	}
+
+	private void mapWindow(long position) throws IOException {
+		windowPosition = position;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, size - position));
+		offset = 0;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,121 @@
+package store.io;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import store.domain.product.Product;
+import store.domain.promotion.Promotion;
+import store.domain.stock.Stock;
+
+public class ProductListingRenderer {
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+	private static final String PRODUCT_FORMAT = "- %s %,d원%s%s";
+	private static final String QUANTITY_FORMAT = " %d개";
+	private static final String SOLD_OUT = " 재고 없음";
+	private static final String EMPTY = "";
+	private static final String BLANK = " ";
+	private static final int CLEAN = 0;
+	private static final int DIRTY = 1;
+
+	private final List<Product> products;
+	private final StringBuilder listing;
+	private final int[] lineStarts;
+	private final AtomicIntegerArray dirtyLines;
+	private final Queue<Integer> dirtyIndexes;
+	private final Lock lock;
+	private LocalDate renderedDate;
+	private String rendered;
+
+	private ProductListingRenderer(Stock stock) {
+		this.products = stock.getProducts();
+		this.listing = new StringBuilder();
+		this.lineStarts = new int[products.size() + 1];
+		this.dirtyLines = new AtomicIntegerArray(products.size());
+		this.dirtyIndexes = new ConcurrentLinkedQueue<>();
+		this.lock = new ReentrantLock();
+	}
+
+	public static ProductListingRenderer of(Stock stock) {
+		ProductListingRenderer renderer = new ProductListingRenderer(stock);
+		stock.onQuantityChanged(renderer::markDirty);
+		return renderer;
+	}
+
+	public String render() {
+		lock.lock();
+		try {
+			refreshDate();
+			refreshDirtyLines();
+			return rendered;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void refreshDirtyLines() {
+		boolean changed = false;
+		for (Integer index = dirtyIndexes.poll(); index != null; index = dirtyIndexes.poll()) {
+			patchLine(index);
+			changed = true;
+		}
+		if (changed) {
+			rendered = listing.toString();
+		}
+	}
+
+	private void refreshDate() {
+		LocalDate today = DateTimes.now().toLocalDate();
+		if (!today.equals(renderedDate)) {
+			renderedDate = today;
+			for (int index = 0; index < products.size(); index++) {
+				markDirty(index);
+			}
+		}
+	}
+
+	private void markDirty(int index) {
+		if (dirtyLines.compareAndSet(index, CLEAN, DIRTY)) {
+			dirtyIndexes.add(index);
+		}
+	}
+
+	private void patchLine(int index) {
+		dirtyLines.set(index, CLEAN);
+		Product product = products.get(index);
+		String line = format(product, product.getQuantity()) + LINE_SEPARATOR;
+		int lengthChange = line.length() - (lineStarts[index + 1] - lineStarts[index]);
+		listing.replace(lineStarts[index], lineStarts[index + 1], line);
+		for (int next = index + 1; next < lineStarts.length; next++) {
+			lineStarts[next] += lengthChange;
+		}
+	}
+
+	static String format(Product product, int quantity) {
+		return String.format(PRODUCT_FORMAT,
+			product.getName(),
+			product.getPrice(),
+			formatQuantity(quantity),
+			formatPromotion(product.getPromotion())
+		);
+	}
+
+	private static String formatQuantity(int quantity) {
+		if (quantity == 0) {
+			return SOLD_OUT;
+		}
+		return String.format(QUANTITY_FORMAT, quantity);
+	}
+
+	private static String formatPromotion(Promotion promotion) {
+		if (promotion == null) {
+			return EMPTY;
+		}
+		return BLANK + promotion.getName();
+	}
+}
@@ -0,0 +1,93 @@
+package store.io;
+
+import java.util.List;
+
+import store.domain.order.Order;
+import store.domain.order.OrderLineItem;
+import store.domain.order.OrderSummary;
+
+public class ReceiptRenderer {
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final int GROUP_SIZE = 3;
+	private static final char GROUP_SEPARATOR = ',';
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+	private static final String TAB = "\t";
+	private static final String DOUBLE_TAB = "\t\t";
+	private static final String TRIPLE_TAB_MINUS = "\t\t\t-";
+	private static final String TRIPLE_TAB = "\t\t\t";
+	private static final String RECEIPT_TOTAL_HEADER = "\n==============W 편의점================";
+	private static final String RECEIPT_ORDER_TOP = "상품명\t\t수량\t금액";
+	private static final String RECEIPT_FREE_HEADER = "=============증\t정===============";
+	private static final String RECEIPT_AMOUNT_HEADER = "====================================";
+	private static final String RECEIPT_ORIGIN_TOTAL_AMOUNT = "총구매액";
+	private static final String RECEIPT_PROMOTION_AMOUNT = "행사할인";
+	private static final String RECEIPT_MEMBERSHIP_AMOUNT = "멤버십할인";
+	private static final String RECEIPT_TOTAL_AMOUNT = "내실돈";
+
+	private final StringBuilder builder;
+
+	private ReceiptRenderer() {
+		this.builder = new StringBuilder(INITIAL_CAPACITY);
+	}
+
+	public static ReceiptRenderer create() {
+		return new ReceiptRenderer();
+	}
+
+	public CharSequence render(Order order) {
+		builder.setLength(0);
+		appendLine(RECEIPT_TOTAL_HEADER);
+		appendLine(RECEIPT_ORDER_TOP);
+		appendOrderItems(order.getOrderLineItems());
+		appendLine(RECEIPT_FREE_HEADER);
+		appendPromotionItems(order.getPromotionItems());
+		appendLine(RECEIPT_AMOUNT_HEADER);
+		appendAmountDetails(order.getSummary());
+		return builder;
+	}
+
+	private void appendOrderItems(List<OrderLineItem> orderItems) {
+		for (OrderLineItem item : orderItems) {
+			builder.append(item.getName()).append(DOUBLE_TAB).append(item.getTotalQuantity()).append(TAB);
+			appendGrouped((long)item.getTotalQuantity() * item.getUnitPrice());
+			builder.append(LINE_SEPARATOR);
+		}
+	}
+
+	private void appendPromotionItems(List<OrderLineItem> promotionItems) {
+		for (OrderLineItem item : promotionItems) {
+			builder.append(item.getName()).append(DOUBLE_TAB).append(item.getFreeQuantity()).append(LINE_SEPARATOR);
+		}
+	}
+
+	private void appendAmountDetails(OrderSummary summary) {
+		builder.append(RECEIPT_ORIGIN_TOTAL_AMOUNT).append(DOUBLE_TAB).append(summary.totalQuantity()).append(TAB);
+		appendAmountLine(summary.totalAmount());
+		builder.append(RECEIPT_PROMOTION_AMOUNT).append(TRIPLE_TAB_MINUS);
+		appendAmountLine(summary.promotionDiscount());
+		builder.append(RECEIPT_MEMBERSHIP_AMOUNT).append(TRIPLE_TAB_MINUS);
+		appendAmountLine(summary.membershipDiscount());
+		builder.append(RECEIPT_TOTAL_AMOUNT).append(TRIPLE_TAB);
+		appendAmountLine(summary.finalAmount());
+	}
+
+	private void appendAmountLine(long amount) {
+		appendGrouped(amount);
+		builder.append(LINE_SEPARATOR);
+	}
+
+	private void appendGrouped(long amount) {
+		int digitStart = builder.length();
+		builder.append(amount);
+		if (amount < 0) {
+			digitStart++;
+		}
+		for (int index = builder.length() - GROUP_SIZE; index > digitStart; index -= GROUP_SIZE) {
+			builder.insert(index, GROUP_SEPARATOR);
+		}
+	}
+
+	private void appendLine(String line) {
+		builder.append(line).append(LINE_SEPARATOR);
+	}
+}
@@ -4,7 +4,11 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import store.domain.product.PrimitiveProductInfo;
 import store.domain.promotion.PrimitivePromotionInfo;
@@ -14,6 +18,8 @@ import store.validator.file.ProductFileValidatingParser;
 import store.validator.file.PromotionFileValidatingParser;
 
 public class ResourceHandler {
+	private static final int PARSE_BATCH_SIZE = 65536;
+
 	private final FileValidatingParser<PrimitiveProductInfo> productValidatingParser;
 	private final FileValidatingParser<PrimitivePromotionInfo> promotionValidatingParser;
 
@@ -31,17 +37,72 @@ public class ResourceHandler {
 	}
 
 	public List<PrimitiveProductInfo> readProductFrom(String filePathAndName) {
-		return readFrom(filePathAndName, productValidatingParser);
+		List<PrimitiveProductInfo> result = new ArrayList<>();
+		readProductFrom(filePathAndName, result::add);
+		return result;
+	}
+
+	public void readProductFrom(String filePathAndName, Consumer<PrimitiveProductInfo> consumer) {
+		readFrom(filePathAndName, productValidatingParser, consumer);
 	}
 
 	public List<PrimitivePromotionInfo> readPromotionFrom(String filePathAndName) {
-		return readFrom(filePathAndName, promotionValidatingParser);
+		List<PrimitivePromotionInfo> result = new ArrayList<>();
+		readFrom(filePathAndName, promotionValidatingParser, result::add);
+		return result;
+	}
+
+	public List<PrimitiveProductInfo> readProductFrom(Path path) {
+		List<PrimitiveProductInfo> result = new ArrayList<>();
+		readProductFrom(path, result::add);
+		return result;
+	}
+
+	public void readProductFrom(Path path, Consumer<PrimitiveProductInfo> consumer) {
+		readFrom(path, productValidatingParser, consumer);
+	}
+
+	public List<PrimitivePromotionInfo> readPromotionFrom(Path path) {
+		List<PrimitivePromotionInfo> result = new ArrayList<>();
+		readFrom(path, promotionValidatingParser, result::add);
+		return result;
 	}
 
-	private <T> List<T> readFrom(String filePathAndName, FileValidatingParser<T> parser) {
+	private <T> void readFrom(Path path, FileValidatingParser<T> parser, Consumer<T> consumer) {
+		validateFile(path);
+		try (MappedLineReader reader = MappedLineReader.open(path)) {
+			String firstLine = reader.readLine();
+			validateFirstLine(firstLine);
+			parser.validateFirstLine(firstLine);
+			parseInBatches(reader::readLine, parser, consumer);
+		} catch (IOException ioException) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_UNREADABLE.getMessage());
+		}
+	}
+
+	private void validateFile(Path path) {
+		if (!Files.isRegularFile(path)) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_NOT_FOUND.getMessage());
+		}
+	}
+
+	private <T> void parseInBatches(LineSource source, FileValidatingParser<T> parser, Consumer<T> consumer)
+		throws IOException {
+		List<String> batch = new ArrayList<>(PARSE_BATCH_SIZE);
+		for (String line = source.readLine(); line != null; line = source.readLine()) {
+			batch.add(line);
+			if (batch.size() == PARSE_BATCH_SIZE) {
+				parser.parseLines(batch).forEach(consumer);
+				batch.clear();
+			}
+		}
+		parser.parseLines(batch).forEach(consumer);
+	}
+
+	private <T> void readFrom(String filePathAndName, FileValidatingParser<T> parser, Consumer<T> consumer) {
 		InputStream stream = ResourceHandler.class.getResourceAsStream(filePathAndName);
 		validateStream(stream);
-		return getValidatedLines(stream, parser);
+		streamValidatedLines(stream, parser, consumer);
 	}
 
 	private void validateStream(InputStream stream) {
@@ -50,20 +111,24 @@ public class ResourceHandler {
 		}
 	}
 
-	private <T> List<T> getValidatedLines(InputStream stream, FileValidatingParser<T> parser) {
+	private <T> void streamValidatedLines(InputStream stream, FileValidatingParser<T> parser, Consumer<T> consumer) {
 		try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
-			List<String> allLine = reader.lines().toList();
-			validateLines(allLine);
-			parser.validateFirstLine(allLine.getFirst());
-			return parser.processLine(allLine);
+			String firstLine = reader.readLine();
+			validateFirstLine(firstLine);
+			parser.validateFirstLine(firstLine);
+			parseInBatches(reader::readLine, parser, consumer);
 		} catch (IOException ioException) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_UNREADABLE.getMessage());
 		}
 	}
 
-	private void validateLines(List<String> lines) {
-		if (lines.isEmpty()) {
+	private void validateFirstLine(String firstLine) {
+		if (firstLine == null) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_EMPTY.getMessage());
 		}
 	}
+
+	private interface LineSource {
+		String readLine() throws IOException;
+	}
 }
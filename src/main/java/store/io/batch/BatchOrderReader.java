@@ -0,0 +1,120 @@
+package store.io.batch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+
+import store.batch.BatchEntry;
+import store.batch.BatchFailure;
+import store.batch.BatchOrder;
+import store.checkout.FixedDecisionPolicy;
+import store.io.MappedLineReader;
+import store.validator.file.FileValidationMessage;
+import store.validator.input.InputValidatingParser;
+
+public class BatchOrderReader {
+	private static final String FIELD_DELIMITER = "|";
+	private static final String COMMENT_PREFIX = "#";
+	private static final int FIELD_COUNT = 5;
+
+	private final MappedLineReader lineReader;
+	private final InputValidatingParser inputValidatingParser;
+	private long lineNumber;
+
+	private BatchOrderReader(MappedLineReader lineReader) {
+		this.lineReader = lineReader;
+		this.inputValidatingParser = InputValidatingParser.getInstance();
+	}
+
+	public static BatchOrderReader open(Path path) {
+		if (!Files.isRegularFile(path)) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_NOT_FOUND.getMessage());
+		}
+		try {
+			return new BatchOrderReader(MappedLineReader.open(path));
+		} catch (IOException ioException) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_UNREADABLE.getMessage());
+		}
+	}
+
+	public void readChunks(int chunkSize, BlockingQueue<List<BatchEntry>> chunks) {
+		try {
+			transferChunks(chunkSize, chunks);
+		} catch (InterruptedException stopped) {
+			Thread.currentThread().interrupt();
+		} catch (IOException | RuntimeException readFailure) {
+			put(chunks, List.of(new BatchFailure(lineNumber, FileValidationMessage.INVALID_UNREADABLE.getMessage())));
+		} finally {
+			close();
+			put(chunks, List.of());
+		}
+	}
+
+	private void close() {
+		try {
+			lineReader.close();
+		} catch (IOException skipped) {
+			return;
+		}
+	}
+
+	private void transferChunks(int chunkSize, BlockingQueue<List<BatchEntry>> chunks)
+		throws IOException, InterruptedException {
+		List<BatchEntry> chunk = readChunk(chunkSize);
+		while (!chunk.isEmpty()) {
+			chunks.put(chunk);
+			chunk = readChunk(chunkSize);
+		}
+	}
+
+	private void put(BlockingQueue<List<BatchEntry>> chunks, List<BatchEntry> chunk) {
+		if (Thread.currentThread().isInterrupted()) {
+			return;
+		}
+		try {
+			chunks.put(chunk);
+		} catch (InterruptedException stopped) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public List<BatchEntry> readChunk(int chunkSize) throws IOException {
+		List<BatchEntry> chunk = new ArrayList<>(chunkSize);
+		for (String line = lineReader.readLine(); line != null; line = lineReader.readLine()) {
+			lineNumber++;
+			addIfOrder(chunk, line);
+			if (chunk.size() == chunkSize) {
+				return chunk;
+			}
+		}
+		return chunk;
+	}
+
+	private void addIfOrder(List<BatchEntry> chunk, String line) {
+		if (line.isBlank() || line.startsWith(COMMENT_PREFIX)) {
+			return;
+		}
+		chunk.add(parse(line));
+	}
+
+	private BatchEntry parse(String line) {
+		String[] fields = line.split("\\" + FIELD_DELIMITER, -1);
+		if (fields.length != FIELD_COUNT) {
+			return new BatchFailure(lineNumber, FileValidationMessage.INVALID_BATCH_ORDER_FORMAT.getMessage());
+		}
+		try {
+			return new BatchOrder(lineNumber, inputValidatingParser.validatedOrderItems(fields[0]),
+				new FixedDecisionPolicy(validatedAnswer(fields[1]), validatedAnswer(fields[2]),
+					validatedAnswer(fields[3]), validatedAnswer(fields[4])));
+		} catch (IllegalArgumentException invalidOrder) {
+			return new BatchFailure(lineNumber, invalidOrder.getMessage());
+		}
+	}
+
+	private String validatedAnswer(String answer) {
+		return inputValidatingParser.validateAdditionalAnswer(answer);
+	}
+}
@@ -0,0 +1,52 @@
+package store.io.batch;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import store.batch.BatchFailure;
+import store.batch.BatchSummary;
+
+public class BatchSummaryWriter {
+	private static final String SUMMARY_LINE_FORMAT = "%s\t%d%n";
+	private static final String FAILURE_HEADER = "===========실패 주문=============";
+	private static final String FAILURE_LINE_FORMAT = "%d번째 줄\t%s%n";
+
+	private BatchSummaryWriter() {
+	}
+
+	public static void write(Path path, BatchSummary summary) {
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			writeTotals(writer, summary);
+			writeFailures(writer, summary);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void writeTotals(BufferedWriter writer, BatchSummary summary) throws IOException {
+		writer.write(SUMMARY_LINE_FORMAT.formatted("주문 수", summary.orderCount()));
+		writer.write(SUMMARY_LINE_FORMAT.formatted("결제 완료", summary.committedCount()));
+		writer.write(SUMMARY_LINE_FORMAT.formatted("실패", summary.failedCount()));
+		writer.write(SUMMARY_LINE_FORMAT.formatted("고객 수", summary.sessionCount()));
+		writer.write(SUMMARY_LINE_FORMAT.formatted("총구매수량", summary.totalQuantity()));
+		writer.write(SUMMARY_LINE_FORMAT.formatted("총구매액", summary.totalAmount()));
+		writer.write(SUMMARY_LINE_FORMAT.formatted("행사할인", summary.promotionDiscount()));
+		writer.write(SUMMARY_LINE_FORMAT.formatted("멤버십할인", summary.membershipDiscount()));
+		writer.write(SUMMARY_LINE_FORMAT.formatted("내실돈", summary.finalAmount()));
+	}
+
+	private static void writeFailures(BufferedWriter writer, BatchSummary summary) throws IOException {
+		if (summary.failures().isEmpty()) {
+			return;
+		}
+		writer.write(FAILURE_HEADER);
+		writer.newLine();
+		for (BatchFailure failure : summary.failures()) {
+			writer.write(FAILURE_LINE_FORMAT.formatted(failure.lineNumber(), failure.message()));
+		}
+	}
+}
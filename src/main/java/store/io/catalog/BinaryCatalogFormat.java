@@ -0,0 +1,23 @@
+package store.io.catalog;
+
+public class BinaryCatalogFormat {
+	static final int MAGIC = 0x53434154;
+	static final int VERSION = 1;
+	static final int NO_PROMOTION = -1;
+
+	static final int PROMOTION_COLUMN_COUNT = 5;
+	static final int PROMOTION_NAME_COLUMN = 0;
+	static final int PROMOTION_BUY_COLUMN = 1;
+	static final int PROMOTION_GET_COLUMN = 2;
+	static final int PROMOTION_START_DATE_COLUMN = 3;
+	static final int PROMOTION_END_DATE_COLUMN = 4;
+
+	static final int PRODUCT_COLUMN_COUNT = 4;
+	static final int PRODUCT_NAME_COLUMN = 0;
+	static final int PRODUCT_PRICE_COLUMN = 1;
+	static final int PRODUCT_QUANTITY_COLUMN = 2;
+	static final int PRODUCT_PROMOTION_COLUMN = 3;
+
+	private BinaryCatalogFormat() {
+	}
+}
@@ -0,0 +1,140 @@
+package store.io.catalog;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import store.domain.product.Product;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.Promotions;
+import store.domain.stock.Stock;
+import store.validator.file.FileValidationMessage;
+
+public class BinaryCatalogLoader {
+	private final ByteBuffer buffer;
+	private String[] strings;
+
+	private BinaryCatalogLoader(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	public static StoreCatalog load(Path path) {
+		validateFile(path);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			validateChecksum(buffer);
+			return new BinaryCatalogLoader(buffer).readCatalog();
+		} catch (IOException ioException) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_UNREADABLE.getMessage());
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException corrupted) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_CATALOG_FORMAT.getMessage());
+		}
+	}
+
+	private static void validateFile(Path path) {
+		if (!Files.isRegularFile(path)) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_NOT_FOUND.getMessage());
+		}
+	}
+
+	private static void validateChecksum(ByteBuffer buffer) {
+		int contentSize = buffer.limit() - Integer.BYTES;
+		CRC32 crc32 = new CRC32();
+		crc32.update(buffer.slice(0, contentSize));
+		if ((int)crc32.getValue() != buffer.getInt(contentSize)) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_CATALOG_FORMAT.getMessage());
+		}
+		buffer.limit(contentSize);
+	}
+
+	private StoreCatalog readCatalog() {
+		validateHeader();
+		strings = readStrings();
+		List<PrimitivePromotionInfo> promotionInfos = readPromotionInfos();
+		Promotions promotions = Promotions.from(promotionInfos);
+		Stock stock = Stock.from(readProducts(resolvePromotions(promotionInfos, promotions)));
+		return new StoreCatalog(promotions, stock);
+	}
+
+	private void validateHeader() {
+		if (buffer.getInt() != BinaryCatalogFormat.MAGIC) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_CATALOG_FORMAT.getMessage());
+		}
+		if (buffer.getInt() != BinaryCatalogFormat.VERSION) {
+			throw new IllegalArgumentException(FileValidationMessage.INVALID_CATALOG_VERSION.getMessage());
+		}
+	}
+
+	private String[] readStrings() {
+		String[] result = new String[buffer.getInt()];
+		byte[] encoded = new byte[0];
+		for (int index = 0; index < result.length; index++) {
+			int length = buffer.getInt();
+			if (encoded.length < length) {
+				encoded = new byte[length];
+			}
+			buffer.get(encoded, 0, length);
+			result[index] = new String(encoded, 0, length, StandardCharsets.UTF_8);
+		}
+		return result;
+	}
+
+	private List<PrimitivePromotionInfo> readPromotionInfos() {
+		int[][] columns = readColumns(BinaryCatalogFormat.PROMOTION_COLUMN_COUNT);
+		List<PrimitivePromotionInfo> result = new ArrayList<>(columns[0].length);
+		for (int index = 0; index < columns[0].length; index++) {
+			result.add(new PrimitivePromotionInfo(
+				strings[columns[BinaryCatalogFormat.PROMOTION_NAME_COLUMN][index]],
+				columns[BinaryCatalogFormat.PROMOTION_BUY_COLUMN][index],
+				columns[BinaryCatalogFormat.PROMOTION_GET_COLUMN][index],
+				strings[columns[BinaryCatalogFormat.PROMOTION_START_DATE_COLUMN][index]],
+				strings[columns[BinaryCatalogFormat.PROMOTION_END_DATE_COLUMN][index]]));
+		}
+		return result;
+	}
+
+	private Promotion[] resolvePromotions(List<PrimitivePromotionInfo> promotionInfos, Promotions promotions) {
+		return promotionInfos.stream()
+			.map(info -> promotions.findByName(info.name()))
+			.toArray(Promotion[]::new);
+	}
+
+	private List<Product> readProducts(Promotion[] promotionsById) {
+		int[][] columns = readColumns(BinaryCatalogFormat.PRODUCT_COLUMN_COUNT);
+		List<Product> result = new ArrayList<>(columns[0].length);
+		for (int index = 0; index < columns[0].length; index++) {
+			result.add(Product.of(
+				strings[columns[BinaryCatalogFormat.PRODUCT_NAME_COLUMN][index]],
+				columns[BinaryCatalogFormat.PRODUCT_PRICE_COLUMN][index],
+				columns[BinaryCatalogFormat.PRODUCT_QUANTITY_COLUMN][index],
+				findPromotion(promotionsById, columns[BinaryCatalogFormat.PRODUCT_PROMOTION_COLUMN][index])));
+		}
+		return result;
+	}
+
+	private Promotion findPromotion(Promotion[] promotionsById, int promotionId) {
+		if (promotionId == BinaryCatalogFormat.NO_PROMOTION) {
+			return null;
+		}
+		return promotionsById[promotionId];
+	}
+
+	private int[][] readColumns(int columnCount) {
+		int[][] columns = new int[columnCount][buffer.getInt()];
+		for (int[] column : columns) {
+			buffer.asIntBuffer().get(column);
+			buffer.position(buffer.position() + column.length * Integer.BYTES);
+		}
+		return columns;
+	}
+}
@@ -0,0 +1,128 @@
+package store.io.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import store.domain.product.PrimitiveProductInfo;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.validator.promotion.PromotionValidateMessage;
+
+public class BinaryCatalogWriter {
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	private final Map<String, Integer> strings;
+	private final ByteArrayOutputStream bytes;
+	private final DataOutputStream output;
+
+	private BinaryCatalogWriter() {
+		this.strings = new LinkedHashMap<>();
+		this.bytes = new ByteArrayOutputStream();
+		this.output = new DataOutputStream(bytes);
+	}
+
+	public static void write(Path path, List<PrimitiveProductInfo> products, List<PrimitivePromotionInfo> promotions)
+		throws IOException {
+		byte[] catalog = new BinaryCatalogWriter().encode(products, promotions);
+		Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+		try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.wrap(catalog);
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private byte[] encode(List<PrimitiveProductInfo> products, List<PrimitivePromotionInfo> promotions)
+		throws IOException {
+		int[][] promotionColumns = internPromotions(promotions);
+		int[][] productColumns = internProducts(products, promotions);
+		output.writeInt(BinaryCatalogFormat.MAGIC);
+		output.writeInt(BinaryCatalogFormat.VERSION);
+		writeStrings();
+		writeColumns(promotionColumns);
+		writeColumns(productColumns);
+		output.writeInt(checksum(bytes.toByteArray()));
+		return bytes.toByteArray();
+	}
+
+	private int[][] internPromotions(List<PrimitivePromotionInfo> promotions) {
+		int[][] columns = new int[BinaryCatalogFormat.PROMOTION_COLUMN_COUNT][promotions.size()];
+		for (int index = 0; index < promotions.size(); index++) {
+			PrimitivePromotionInfo promotion = promotions.get(index);
+			columns[BinaryCatalogFormat.PROMOTION_NAME_COLUMN][index] = intern(promotion.name());
+			columns[BinaryCatalogFormat.PROMOTION_BUY_COLUMN][index] = promotion.buy();
+			columns[BinaryCatalogFormat.PROMOTION_GET_COLUMN][index] = promotion.get();
+			columns[BinaryCatalogFormat.PROMOTION_START_DATE_COLUMN][index] = intern(promotion.startDate());
+			columns[BinaryCatalogFormat.PROMOTION_END_DATE_COLUMN][index] = intern(promotion.endDate());
+		}
+		return columns;
+	}
+
+	private int[][] internProducts(List<PrimitiveProductInfo> products, List<PrimitivePromotionInfo> promotions) {
+		Map<String, Integer> promotionIds = indexPromotions(promotions);
+		int[][] columns = new int[BinaryCatalogFormat.PRODUCT_COLUMN_COUNT][products.size()];
+		for (int index = 0; index < products.size(); index++) {
+			PrimitiveProductInfo product = products.get(index);
+			columns[BinaryCatalogFormat.PRODUCT_NAME_COLUMN][index] = intern(product.name());
+			columns[BinaryCatalogFormat.PRODUCT_PRICE_COLUMN][index] = product.price();
+			columns[BinaryCatalogFormat.PRODUCT_QUANTITY_COLUMN][index] = product.quantity();
+			columns[BinaryCatalogFormat.PRODUCT_PROMOTION_COLUMN][index] = promotionIds.getOrDefault(
+				product.promotion(), BinaryCatalogFormat.NO_PROMOTION);
+		}
+		return columns;
+	}
+
+	private Map<String, Integer> indexPromotions(List<PrimitivePromotionInfo> promotions) {
+		Map<String, Integer> promotionIds = new HashMap<>();
+		for (int index = 0; index < promotions.size(); index++) {
+			if (promotionIds.putIfAbsent(promotions.get(index).name(), index) != null) {
+				throw new IllegalArgumentException(PromotionValidateMessage.INVALID_DUPLICATE_NAME.getMessage());
+			}
+		}
+		return promotionIds;
+	}
+
+	private int intern(String value) {
+		return strings.computeIfAbsent(value, key -> strings.size());
+	}
+
+	private void writeStrings() throws IOException {
+		output.writeInt(strings.size());
+		for (String value : strings.keySet()) {
+			byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+			output.writeInt(encoded.length);
+			output.write(encoded);
+		}
+	}
+
+	private void writeColumns(int[][] columns) throws IOException {
+		output.writeInt(columns[0].length);
+		for (int[] column : columns) {
+			for (int value : column) {
+				output.writeInt(value);
+			}
+		}
+	}
+
+	private int checksum(byte[] catalog) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(catalog);
+		return (int)crc32.getValue();
+	}
+}
@@ -0,0 +1,31 @@
+package store.io.catalog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import store.io.ResourceHandler;
+
+public class CatalogConverter {
+	private static final String PRODUCT_FILE_NAME = "products.md";
+	private static final String PROMOTION_FILE_NAME = "promotions.md";
+	private static final int ARGUMENT_COUNT = 2;
+	private static final String USAGE = "사용법: CatalogConverter <카탈로그 디렉터리> <출력 파일>";
+
+	private CatalogConverter() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != ARGUMENT_COUNT) {
+			System.out.println(USAGE);
+			return;
+		}
+		convert(Path.of(args[0]), Path.of(args[1]));
+	}
+
+	public static void convert(Path catalogDirectory, Path output) throws IOException {
+		ResourceHandler resourceHandler = ResourceHandler.getInstance();
+		BinaryCatalogWriter.write(output,
+			resourceHandler.readProductFrom(catalogDirectory.resolve(PRODUCT_FILE_NAME)),
+			resourceHandler.readPromotionFrom(catalogDirectory.resolve(PROMOTION_FILE_NAME)));
+	}
+}
@@ -0,0 +1,7 @@
+package store.io.catalog;
+
+import store.domain.promotion.Promotions;
+import store.domain.stock.Stock;
+
+public record StoreCatalog(Promotions promotions, Stock stock) {
+}
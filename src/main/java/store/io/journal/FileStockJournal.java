@@ -0,0 +1,328 @@
+package store.io.journal;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import store.domain.stock.Stock;
+import store.domain.stock.StockDeduction;
+import store.domain.stock.StockJournal;
+import store.validator.stock.StockValidateMessage;
+
+public class FileStockJournal implements StockJournal {
+	private static final PendingEntry CLOSE = new PendingEntry(-1, List.of(), new CompletableFuture<>());
+
+	private final FileChannel channel;
+	private final BlockingQueue<PendingEntry> pendingEntries;
+	private final AtomicLong syncCount;
+	private final Snapshotter snapshotter;
+	private final Thread writer;
+	private long nextSequence;
+	private boolean closed;
+
+	private FileStockJournal(FileChannel channel, long nextSequence, Snapshotter snapshotter) {
+		this.channel = channel;
+		this.pendingEntries = new LinkedBlockingQueue<>();
+		this.syncCount = new AtomicLong();
+		this.snapshotter = snapshotter;
+		this.nextSequence = nextSequence;
+		this.writer = Thread.ofPlatform().daemon().name("stock-journal-writer").start(this::writeEntries);
+	}
+
+	public static FileStockJournal open(Path path, Consumer<JournalEntry> replayer) {
+		return open(path, 0, replayer, null);
+	}
+
+	public static FileStockJournal open(Path path, Path snapshotPath, Duration snapshotInterval, Stock stock) {
+		StockSnapshot snapshot = StockSnapshot.read(snapshotPath);
+		stock.restore(snapshot.getQuantities());
+		return open(path, snapshot.getSequence(), entry -> stock.replay(entry.orderId(), entry.deductions()),
+			lastSequence -> new Snapshotter(snapshotPath, snapshotInterval,
+				StockSnapshot.of(lastSequence, stock.getQuantities())));
+	}
+
+	private static FileStockJournal open(Path path, long snapshotSequence, Consumer<JournalEntry> replayer,
+		LongFunction<Snapshotter> snapshotterFactory) {
+		try {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+			long lastSequence = Math.max(snapshotSequence, recover(channel, snapshotSequence, replayer));
+			return new FileStockJournal(channel, lastSequence + 1, createSnapshotter(snapshotterFactory,
+				lastSequence));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static Snapshotter createSnapshotter(LongFunction<Snapshotter> snapshotterFactory, long lastSequence) {
+		if (snapshotterFactory == null) {
+			return null;
+		}
+		return snapshotterFactory.apply(lastSequence);
+	}
+
+	private static long recover(FileChannel channel, long snapshotSequence, Consumer<JournalEntry> replayer)
+		throws IOException {
+		DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+		long validSize = 0;
+		long lastSequence = 0;
+		for (JournalEntry entry = readEntry(input); entry != null; entry = readEntry(input)) {
+			replayAfterSnapshot(entry, snapshotSequence, replayer);
+			validSize += JournalCodec.sizeOf(entry);
+			lastSequence = entry.sequence();
+		}
+		channel.truncate(validSize);
+		channel.position(validSize);
+		return lastSequence;
+	}
+
+	private static void replayAfterSnapshot(JournalEntry entry, long snapshotSequence,
+		Consumer<JournalEntry> replayer) {
+		if (entry.sequence() > snapshotSequence) {
+			replayer.accept(entry);
+		}
+	}
+
+	private static JournalEntry readEntry(DataInputStream input) throws IOException {
+		try {
+			return JournalCodec.read(input);
+		} catch (EOFException tornOrEnd) {
+			return null;
+		}
+	}
+
+	@Override
+	public void append(long orderId, List<StockDeduction> deductions) {
+		try {
+			appendAsync(orderId, deductions).join();
+		} catch (CompletionException e) {
+			throw (RuntimeException)e.getCause();
+		}
+	}
+
+	@Override
+	public CompletableFuture<Void> appendAsync(long orderId, List<StockDeduction> deductions) {
+		PendingEntry pendingEntry = new PendingEntry(orderId, deductions, new CompletableFuture<>());
+		enqueue(pendingEntry);
+		return pendingEntry.written();
+	}
+
+	private synchronized void enqueue(PendingEntry pendingEntry) {
+		if (closed) {
+			throw new IllegalStateException(StockValidateMessage.INVALID_JOURNAL_CLOSED.getMessage());
+		}
+		pendingEntries.add(pendingEntry);
+	}
+
+	public long getSyncCount() {
+		return syncCount.get();
+	}
+
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			pendingEntries.add(CLOSE);
+		}
+		try {
+			writer.join();
+			channel.close();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeEntries() {
+		List<PendingEntry> batch = new ArrayList<>();
+		boolean open = true;
+		try {
+			while (open) {
+				open = takeBatch(batch);
+				writeBatch(batch);
+				batch.clear();
+				snapshotIfDue(!open);
+			}
+		} finally {
+			failPendingEntries(batch);
+		}
+	}
+
+	private synchronized void failPendingEntries(List<PendingEntry> batch) {
+		closed = true;
+		pendingEntries.drainTo(batch);
+		failBatch(batch, new UncheckedIOException(new InterruptedIOException()));
+	}
+
+	private void failBatch(List<PendingEntry> batch, RuntimeException failure) {
+		batch.forEach(pendingEntry -> pendingEntry.written().completeExceptionally(failure));
+	}
+
+	private boolean takeBatch(List<PendingEntry> batch) {
+		try {
+			addIfPresent(batch, pendingEntries.poll(nanosUntilSnapshot(), TimeUnit.NANOSECONDS));
+		} catch (InterruptedException e) {
+			return false;
+		}
+		pendingEntries.drainTo(batch);
+		boolean open = !batch.contains(CLOSE);
+		batch.remove(CLOSE);
+		return open;
+	}
+
+	private void addIfPresent(List<PendingEntry> batch, PendingEntry pendingEntry) {
+		if (pendingEntry != null) {
+			batch.add(pendingEntry);
+		}
+	}
+
+	private long nanosUntilSnapshot() {
+		if (snapshotter == null) {
+			return Long.MAX_VALUE;
+		}
+		return snapshotter.nanosUntilDue();
+	}
+
+	private void writeBatch(List<PendingEntry> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		try {
+			long committedSize = channel.position();
+			List<JournalEntry> entries = toEntries(batch);
+			writeOrRollback(entries, committedSize);
+			applyToSnapshot(entries);
+			batch.forEach(pendingEntry -> pendingEntry.written().complete(null));
+		} catch (IOException e) {
+			failBatch(batch, new UncheckedIOException(e));
+		} catch (RuntimeException e) {
+			failBatch(batch, e);
+		}
+	}
+
+	private List<JournalEntry> toEntries(List<PendingEntry> batch) {
+		List<JournalEntry> entries = new ArrayList<>();
+		for (PendingEntry pendingEntry : batch) {
+			entries.add(new JournalEntry(nextSequence++, pendingEntry.orderId(), pendingEntry.deductions()));
+		}
+		return entries;
+	}
+
+	private void writeOrRollback(List<JournalEntry> entries, long committedSize) throws IOException {
+		try {
+			writeFully(ByteBuffer.wrap(encode(entries)));
+			channel.force(false);
+			syncCount.incrementAndGet();
+		} catch (IOException | RuntimeException e) {
+			nextSequence -= entries.size();
+			channel.truncate(committedSize);
+			channel.position(committedSize);
+			throw e;
+		}
+	}
+
+	private void writeFully(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private byte[] encode(List<JournalEntry> entries) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		for (JournalEntry entry : entries) {
+			JournalCodec.write(output, entry);
+		}
+		return bytes.toByteArray();
+	}
+
+	private void applyToSnapshot(List<JournalEntry> entries) {
+		if (snapshotter != null) {
+			entries.forEach(snapshotter.snapshot()::apply);
+		}
+	}
+
+	private void snapshotIfDue(boolean closing) {
+		if (snapshotter == null) {
+			return;
+		}
+		if (closing || snapshotter.nanosUntilDue() == 0) {
+			writeSnapshot();
+		}
+	}
+
+	private void writeSnapshot() {
+		try {
+			snapshotter.write();
+			channel.truncate(0);
+			channel.position(0);
+			channel.force(true);
+		} catch (IOException skipped) {
+			snapshotter.reschedule();
+		}
+	}
+
+	private static class Snapshotter {
+		private final Path path;
+		private final long intervalNanos;
+		private final StockSnapshot snapshot;
+		private long writtenSequence;
+		private long dueAt;
+
+		private Snapshotter(Path path, Duration interval, StockSnapshot snapshot) {
+			this.path = path;
+			this.intervalNanos = interval.toNanos();
+			this.snapshot = snapshot;
+			this.writtenSequence = -1;
+			reschedule();
+		}
+
+		private StockSnapshot snapshot() {
+			return snapshot;
+		}
+
+		private long nanosUntilDue() {
+			return Math.max(0, dueAt - System.nanoTime());
+		}
+
+		private void write() throws IOException {
+			if (snapshot.getSequence() != writtenSequence) {
+				snapshot.write(path);
+				writtenSequence = snapshot.getSequence();
+			}
+			reschedule();
+		}
+
+		private void reschedule() {
+			dueAt = System.nanoTime() + intervalNanos;
+		}
+	}
+
+	private record PendingEntry(long orderId, List<StockDeduction> deductions, CompletableFuture<Void> written) {
+	}
+}
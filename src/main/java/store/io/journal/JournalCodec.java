@@ -0,0 +1,76 @@
+package store.io.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import store.domain.stock.StockDeduction;
+
+public class JournalCodec {
+	private static final int HEADER_SIZE = Integer.BYTES * 2;
+	private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+
+	private JournalCodec() {
+	}
+
+	public static void write(DataOutputStream output, JournalEntry entry) throws IOException {
+		byte[] payload = encodePayload(entry);
+		output.writeInt(payload.length);
+		output.writeInt(checksum(payload));
+		output.write(payload);
+	}
+
+	public static JournalEntry read(DataInputStream input) throws IOException {
+		int length = input.readInt();
+		int checksum = input.readInt();
+		if (length < 0 || length > MAX_RECORD_SIZE) {
+			throw new EOFException();
+		}
+		byte[] payload = input.readNBytes(length);
+		if (payload.length != length || checksum(payload) != checksum) {
+			throw new EOFException();
+		}
+		return decodePayload(new DataInputStream(new ByteArrayInputStream(payload)));
+	}
+
+	public static int sizeOf(JournalEntry entry) throws IOException {
+		return HEADER_SIZE + encodePayload(entry).length;
+	}
+
+	private static byte[] encodePayload(JournalEntry entry) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(bytes);
+		payload.writeLong(entry.sequence());
+		payload.writeLong(entry.orderId());
+		payload.writeInt(entry.deductions().size());
+		for (StockDeduction deduction : entry.deductions()) {
+			payload.writeUTF(deduction.name());
+			payload.writeBoolean(deduction.promotion());
+			payload.writeInt(deduction.quantity());
+		}
+		return bytes.toByteArray();
+	}
+
+	private static JournalEntry decodePayload(DataInputStream payload) throws IOException {
+		long sequence = payload.readLong();
+		long orderId = payload.readLong();
+		int size = payload.readInt();
+		List<StockDeduction> deductions = new ArrayList<>(size);
+		for (int index = 0; index < size; index++) {
+			deductions.add(new StockDeduction(payload.readUTF(), payload.readBoolean(), payload.readInt()));
+		}
+		return new JournalEntry(sequence, orderId, deductions);
+	}
+
+	private static int checksum(byte[] payload) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(payload);
+		return (int)crc32.getValue();
+	}
+}
@@ -0,0 +1,8 @@
+package store.io.journal;
+
+import java.util.List;
+
+import store.domain.stock.StockDeduction;
+
+public record JournalEntry(long sequence, long orderId, List<StockDeduction> deductions) {
+}
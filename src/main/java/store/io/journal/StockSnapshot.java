@@ -0,0 +1,140 @@
+package store.io.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import store.domain.stock.StockDeduction;
+import store.domain.stock.StockQuantity;
+import store.validator.stock.StockValidateMessage;
+
+public class StockSnapshot {
+	private static final int MAGIC = 0x53544B53;
+	private static final int VERSION = 1;
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	private final Map<Variant, Integer> quantities;
+	private long sequence;
+
+	private StockSnapshot(long sequence, Map<Variant, Integer> quantities) {
+		this.sequence = sequence;
+		this.quantities = quantities;
+	}
+
+	public static StockSnapshot of(long sequence, List<StockQuantity> quantities) {
+		Map<Variant, Integer> result = new LinkedHashMap<>();
+		quantities.forEach(quantity -> result.put(new Variant(quantity.name(), quantity.promotion()),
+			quantity.quantity()));
+		return new StockSnapshot(sequence, result);
+	}
+
+	public static StockSnapshot read(Path path) {
+		if (!Files.exists(path)) {
+			return of(0, List.of());
+		}
+		try {
+			return decode(Files.readAllBytes(path));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public long getSequence() {
+		return sequence;
+	}
+
+	public List<StockQuantity> getQuantities() {
+		List<StockQuantity> result = new ArrayList<>();
+		quantities.forEach((variant, quantity) -> result.add(
+			new StockQuantity(variant.name(), variant.promotion(), quantity)));
+		return result;
+	}
+
+	public void apply(JournalEntry entry) {
+		entry.deductions().forEach(this::applyDeduction);
+		sequence = entry.sequence();
+	}
+
+	private void applyDeduction(StockDeduction deduction) {
+		quantities.computeIfPresent(new Variant(deduction.name(), deduction.promotion()),
+			(variant, quantity) -> quantity - deduction.quantity());
+	}
+
+	public void write(Path path) throws IOException {
+		Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+		try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			writeFully(channel, ByteBuffer.wrap(encode()));
+			channel.force(true);
+		}
+		Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		forceDirectory(path.toAbsolutePath().getParent());
+	}
+
+	private void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private void forceDirectory(Path directory) throws IOException {
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		}
+	}
+
+	private byte[] encode() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeInt(MAGIC);
+		output.writeInt(VERSION);
+		output.writeLong(sequence);
+		output.writeInt(quantities.size());
+		for (Map.Entry<Variant, Integer> quantity : quantities.entrySet()) {
+			output.writeUTF(quantity.getKey().name());
+			output.writeBoolean(quantity.getKey().promotion());
+			output.writeInt(quantity.getValue());
+		}
+		output.writeInt(checksum(bytes.toByteArray(), bytes.size()));
+		return bytes.toByteArray();
+	}
+
+	private static StockSnapshot decode(byte[] bytes) throws IOException {
+		int length = bytes.length - Integer.BYTES;
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+		if (length < 0 || input.readInt() != MAGIC || input.readInt() != VERSION
+			|| ByteBuffer.wrap(bytes, length, Integer.BYTES).getInt() != checksum(bytes, length)) {
+			throw new IOException(StockValidateMessage.INVALID_SNAPSHOT.getMessage());
+		}
+		long sequence = input.readLong();
+		int size = input.readInt();
+		Map<Variant, Integer> quantities = new LinkedHashMap<>();
+		for (int index = 0; index < size; index++) {
+			quantities.put(new Variant(input.readUTF(), input.readBoolean()), input.readInt());
+		}
+		return new StockSnapshot(sequence, quantities);
+	}
+
+	private static int checksum(byte[] bytes, int length) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(bytes, 0, length);
+		return (int)crc32.getValue();
+	}
+
+	private record Variant(String name, boolean promotion) {
+	}
+}
@@ -0,0 +1,98 @@
+package store.io.receipt;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.io.ReceiptRenderer;
+import store.validator.receipt.ReceiptValidateMessage;
+
+abstract class AsyncReceiptSink implements ReceiptSink {
+	private static final Order CLOSE = Order.of(List.of(), Membership.create(), "N");
+
+	private final BlockingQueue<Order> pendingOrders;
+	private final ReceiptRenderer receiptRenderer;
+	private final AtomicLong writtenCount;
+	private final AtomicLong failedCount;
+	private Thread writer;
+	private boolean closed;
+
+	protected AsyncReceiptSink(BlockingQueue<Order> pendingOrders) {
+		this.pendingOrders = pendingOrders;
+		this.receiptRenderer = ReceiptRenderer.create();
+		this.writtenCount = new AtomicLong();
+		this.failedCount = new AtomicLong();
+	}
+
+	protected void start(String name) {
+		writer = Thread.ofPlatform().daemon().name(name).start(this::writeReceipts);
+	}
+
+	@Override
+	public synchronized void accept(Order order) {
+		if (closed) {
+			throw new IllegalStateException(ReceiptValidateMessage.INVALID_SINK_CLOSED.getMessage());
+		}
+		if (!pendingOrders.offer(order)) {
+			throw new IllegalStateException(ReceiptValidateMessage.INVALID_PRINTER_QUEUE_FULL.getMessage());
+		}
+	}
+
+	public long getWrittenCount() {
+		return writtenCount.get();
+	}
+
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	@Override
+	public void close() {
+		try {
+			if (!enqueueClose()) {
+				return;
+			}
+			writer.join();
+			closeResources();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException skipped) {
+			failedCount.incrementAndGet();
+		}
+	}
+
+	private synchronized boolean enqueueClose() throws InterruptedException {
+		if (closed) {
+			return false;
+		}
+		closed = true;
+		pendingOrders.put(CLOSE);
+		return true;
+	}
+
+	private void writeReceipts() {
+		try {
+			for (Order order = pendingOrders.take(); order != CLOSE; order = pendingOrders.take()) {
+				writeReceipt(order);
+			}
+		} catch (InterruptedException stopped) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void writeReceipt(Order order) throws InterruptedException {
+		try {
+			write(receiptRenderer.render(order));
+			writtenCount.incrementAndGet();
+		} catch (IOException | RuntimeException skipped) {
+			failedCount.incrementAndGet();
+		}
+	}
+
+	protected abstract void write(CharSequence receipt) throws IOException, InterruptedException;
+
+	protected abstract void closeResources() throws IOException;
+}
@@ -0,0 +1,25 @@
+package store.io.receipt;
+
+import store.domain.order.Order;
+import store.io.OutputHandler;
+
+public class ConsoleReceiptSink implements ReceiptSink {
+	private final OutputHandler outputHandler;
+
+	private ConsoleReceiptSink(OutputHandler outputHandler) {
+		this.outputHandler = outputHandler;
+	}
+
+	public static ConsoleReceiptSink from(OutputHandler outputHandler) {
+		return new ConsoleReceiptSink(outputHandler);
+	}
+
+	@Override
+	public void accept(Order order) {
+		outputHandler.showReceipt(order);
+	}
+
+	@Override
+	public void close() {
+	}
+}
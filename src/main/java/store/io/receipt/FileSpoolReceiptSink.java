@@ -0,0 +1,87 @@
+package store.io.receipt;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+
+import store.validator.receipt.ReceiptValidateMessage;
+
+public class FileSpoolReceiptSink extends AsyncReceiptSink {
+	private static final String SPOOL_FILE_PREFIX = "receipts-";
+	private static final String SPOOL_FILE_SUFFIX = ".txt";
+	private static final String SPOOL_FILE_FORMAT = SPOOL_FILE_PREFIX + "%05d" + SPOOL_FILE_SUFFIX;
+
+	private final Path directory;
+	private final long rollSize;
+	private int fileIndex;
+	private FileChannel channel;
+
+	private FileSpoolReceiptSink(Path directory, long rollSize, int fileIndex) {
+		super(new LinkedBlockingQueue<>());
+		this.directory = directory;
+		this.rollSize = rollSize;
+		this.fileIndex = fileIndex;
+	}
+
+	public static FileSpoolReceiptSink open(Path directory, long rollSize) {
+		try {
+			Files.createDirectories(directory);
+			FileSpoolReceiptSink sink = new FileSpoolReceiptSink(directory, rollSize, findLastIndex(directory) + 1);
+			sink.start("receipt-spool-writer");
+			return sink;
+		} catch (IOException e) {
+			throw new UncheckedIOException(ReceiptValidateMessage.INVALID_SPOOL_DIRECTORY.getMessage(), e);
+		}
+	}
+
+	private static int findLastIndex(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(file -> file.getFileName().toString())
+				.filter(name -> name.startsWith(SPOOL_FILE_PREFIX) && name.endsWith(SPOOL_FILE_SUFFIX))
+				.map(name -> name.substring(SPOOL_FILE_PREFIX.length(), name.length() - SPOOL_FILE_SUFFIX.length()))
+				.filter(index -> !index.isEmpty() && index.chars().allMatch(Character::isDigit))
+				.mapToInt(Integer::parseInt)
+				.max()
+				.orElse(0);
+		}
+	}
+
+	public static Path spoolFile(Path directory, int fileIndex) {
+		return directory.resolve(String.format(SPOOL_FILE_FORMAT, fileIndex));
+	}
+
+	@Override
+	protected void write(CharSequence receipt) throws IOException {
+		ByteBuffer bytes = StandardCharsets.UTF_8.encode(receipt.toString());
+		rollIfFull(bytes.remaining());
+		while (bytes.hasRemaining()) {
+			channel.write(bytes);
+		}
+	}
+
+	private void rollIfFull(int receiptSize) throws IOException {
+		if (channel != null && channel.size() > 0 && channel.size() + receiptSize > rollSize) {
+			channel.close();
+			channel = null;
+			fileIndex++;
+		}
+		if (channel == null) {
+			channel = FileChannel.open(spoolFile(directory, fileIndex), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		}
+	}
+
+	@Override
+	protected void closeResources() throws IOException {
+		if (channel != null) {
+			channel.close();
+		}
+	}
+}
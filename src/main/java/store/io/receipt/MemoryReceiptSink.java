@@ -0,0 +1,34 @@
+package store.io.receipt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import store.domain.order.Order;
+import store.io.ReceiptRenderer;
+
+public class MemoryReceiptSink implements ReceiptSink {
+	private final ReceiptRenderer receiptRenderer;
+	private final List<String> receipts;
+
+	private MemoryReceiptSink() {
+		this.receiptRenderer = ReceiptRenderer.create();
+		this.receipts = new ArrayList<>();
+	}
+
+	public static MemoryReceiptSink create() {
+		return new MemoryReceiptSink();
+	}
+
+	@Override
+	public synchronized void accept(Order order) {
+		receipts.add(receiptRenderer.render(order).toString());
+	}
+
+	public synchronized List<String> getReceipts() {
+		return List.copyOf(receipts);
+	}
+
+	@Override
+	public void close() {
+	}
+}
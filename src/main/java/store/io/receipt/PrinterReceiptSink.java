@@ -0,0 +1,32 @@
+package store.io.receipt;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+
+public class PrinterReceiptSink extends AsyncReceiptSink {
+	private final Duration printTime;
+	private final Consumer<String> paper;
+
+	private PrinterReceiptSink(int capacity, Duration printTime, Consumer<String> paper) {
+		super(new ArrayBlockingQueue<>(capacity));
+		this.printTime = printTime;
+		this.paper = paper;
+	}
+
+	public static PrinterReceiptSink of(int capacity, Duration printTime, Consumer<String> paper) {
+		PrinterReceiptSink sink = new PrinterReceiptSink(capacity, printTime, paper);
+		sink.start("receipt-printer");
+		return sink;
+	}
+
+	@Override
+	protected void write(CharSequence receipt) throws InterruptedException {
+		Thread.sleep(printTime);
+		paper.accept(receipt.toString());
+	}
+
+	@Override
+	protected void closeResources() {
+	}
+}
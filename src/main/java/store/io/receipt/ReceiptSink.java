@@ -0,0 +1,10 @@
+package store.io.receipt;
+
+import store.domain.order.Order;
+
+public interface ReceiptSink extends AutoCloseable {
+	void accept(Order order);
+
+	@Override
+	void close();
+}
@@ -0,0 +1,105 @@
+package store.session;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import store.io.InputHandler;
+import store.io.IoHandler;
+import store.io.OutputHandler;
+
+public class SessionServer {
+	private static final int BACKLOG = 4096;
+
+	private final ServerSocket serverSocket;
+	private final Consumer<IoHandler> sessionRunner;
+	private final Set<Socket> sessions;
+	private Thread acceptor;
+
+	private SessionServer(ServerSocket serverSocket, Consumer<IoHandler> sessionRunner) {
+		this.serverSocket = serverSocket;
+		this.sessionRunner = sessionRunner;
+		this.sessions = ConcurrentHashMap.newKeySet();
+	}
+
+	public static SessionServer start(InetSocketAddress address, Consumer<IoHandler> sessionRunner) {
+		try {
+			ServerSocket serverSocket = new ServerSocket();
+			serverSocket.bind(address, BACKLOG);
+			SessionServer sessionServer = new SessionServer(serverSocket, sessionRunner);
+			sessionServer.acceptor = Thread.ofPlatform().name("store-session-acceptor")
+				.start(sessionServer::acceptSessions);
+			return sessionServer;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	public void stop() {
+		try {
+			serverSocket.close();
+			acceptor.join();
+		} catch (IOException skipped) {
+			return;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			sessions.forEach(this::closeQuietly);
+		}
+	}
+
+	private void acceptSessions() {
+		try {
+			while (true) {
+				Socket socket = serverSocket.accept();
+				sessions.add(socket);
+				Thread.ofVirtual().name("store-session").start(() -> serve(socket));
+			}
+		} catch (IOException closed) {
+			return;
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (socket) {
+			sessionRunner.accept(openSession(socket));
+		} catch (IOException | UncheckedIOException | NoSuchElementException disconnected) {
+			return;
+		} finally {
+			sessions.remove(socket);
+		}
+	}
+
+	private IoHandler openSession(Socket socket) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+			StandardCharsets.UTF_8));
+		PrintStream output = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+		return IoHandler.of(InputHandler.from(reader), OutputHandler.from(output));
+	}
+
+	private void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException skipped) {
+			return;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package store.validator.checkout;
+
+public enum CheckoutValidateMessage {
+	INVALID_DECISION_RULE("[ERROR] 알 수 없는 결제 응답 정책입니다."),
+	INVALID_RECEIPT_NOT_FOUND("[ERROR] 영수증을 찾을 수 없습니다."),
+	INVALID_REQUEST_PATH("[ERROR] 존재하지 않는 요청 경로입니다."),
+	INVALID_REQUEST_METHOD("[ERROR] 지원하지 않는 요청 방식입니다."),
+	INVALID_CHOICE_FORMAT("[ERROR] 선택 항목은 '상품명:Y' 또는 '상품명:N' 형식이어야 합니다."),
+	INVALID_CHOICE_MISSING("[ERROR] 견적 이후 주문 조건이 바뀌었습니다. 다시 견적을 받아 주세요."),
+	INVALID_IDEMPOTENCY_KEY_REUSED("[ERROR] 같은 멱등성 키로 다른 주문을 결제할 수 없습니다."),
+	;
+
+	private final String message;
+
+	CheckoutValidateMessage(String message) {
+		this.message = message;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+}
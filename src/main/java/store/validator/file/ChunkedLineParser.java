@@ -0,0 +1,77 @@
+package store.validator.file;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class ChunkedLineParser<T> extends RecursiveTask<ChunkedLineParser.ChunkError> {
+	@Serial
+	private static final long serialVersionUID = 1L;
+	private static final int CHUNK_SIZE = 4096;
+
+	private final transient List<String> lines;
+	private final transient Function<String, T> lineParser;
+	private final transient Object[] results;
+	private final AtomicInteger firstErrorIndex;
+	private final int start;
+	private final int end;
+
+	private ChunkedLineParser(List<String> lines, Function<String, T> lineParser, Object[] results,
+		AtomicInteger firstErrorIndex, int start, int end) {
+		this.lines = lines;
+		this.lineParser = lineParser;
+		this.results = results;
+		this.firstErrorIndex = firstErrorIndex;
+		this.start = start;
+		this.end = end;
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> List<T> parse(List<String> lines, Function<String, T> lineParser) {
+		Object[] results = new Object[lines.size()];
+		ChunkedLineParser<T> task = new ChunkedLineParser<>(lines, lineParser, results,
+			new AtomicInteger(Integer.MAX_VALUE), 0, lines.size());
+		ChunkError error = task.invoke();
+		if (error != null) {
+			throw error.exception();
+		}
+		return Collections.unmodifiableList((List<T>)Arrays.asList(results));
+	}
+
+	@Override
+	protected ChunkError compute() {
+		if (end - start <= CHUNK_SIZE) {
+			return parseChunk();
+		}
+		int middle = (start + end) >>> 1;
+		ChunkedLineParser<T> left = new ChunkedLineParser<>(lines, lineParser, results, firstErrorIndex, start,
+			middle);
+		left.fork();
+		ChunkError rightError = new ChunkedLineParser<>(lines, lineParser, results, firstErrorIndex, middle, end)
+			.compute();
+		ChunkError leftError = left.join();
+		if (leftError != null) {
+			return leftError;
+		}
+		return rightError;
+	}
+
+	private ChunkError parseChunk() {
+		for (int index = start; index < end && index < firstErrorIndex.get(); index++) {
+			try {
+				results[index] = lineParser.apply(lines.get(index));
+			} catch (IllegalArgumentException invalidLine) {
+				firstErrorIndex.accumulateAndGet(index, Math::min);
+				return new ChunkError(invalidLine);
+			}
+		}
+		return null;
+	}
+
+	record ChunkError(IllegalArgumentException exception) {
+	}
+}
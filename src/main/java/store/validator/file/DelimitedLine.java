@@ -0,0 +1,72 @@
+package store.validator.file;
+
+import java.util.Arrays;
+
+class DelimitedLine {
+	private static final char DELIMITER = ',';
+	private static final int INITIAL_FIELD_CAPACITY = 8;
+
+	private final String line;
+	private int[] boundaries;
+	private int size;
+
+	private DelimitedLine(String line) {
+		this.line = line;
+		this.boundaries = new int[INITIAL_FIELD_CAPACITY + 1];
+		this.boundaries[0] = -1;
+	}
+
+	static DelimitedLine of(String line) {
+		DelimitedLine delimitedLine = new DelimitedLine(line);
+		delimitedLine.tokenize();
+		return delimitedLine;
+	}
+
+	private void tokenize() {
+		for (int index = line.indexOf(DELIMITER); index >= 0; index = line.indexOf(DELIMITER, index + 1)) {
+			addBoundary(index);
+		}
+		addBoundary(line.length());
+		removeTrailingEmptyFields();
+	}
+
+	private void addBoundary(int index) {
+		if (size + 1 == boundaries.length) {
+			boundaries = Arrays.copyOf(boundaries, boundaries.length * 2);
+		}
+		boundaries[++size] = index;
+	}
+
+	private void removeTrailingEmptyFields() {
+		while (size > 0 && length(size - 1) == 0) {
+			size--;
+		}
+		if (line.isEmpty()) {
+			size = 1;
+		}
+	}
+
+	int size() {
+		return size;
+	}
+
+	int length(int index) {
+		return end(index) - start(index);
+	}
+
+	String get(int index) {
+		return line.substring(start(index), end(index));
+	}
+
+	int parseInt(int index) {
+		return Integer.parseInt(line, start(index), end(index), 10);
+	}
+
+	private int start(int index) {
+		return boundaries[index] + 1;
+	}
+
+	private int end(int index) {
+		return boundaries[index + 1];
+	}
+}
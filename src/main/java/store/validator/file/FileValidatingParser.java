@@ -6,4 +6,10 @@ public interface FileValidatingParser<T> {
 	void validateFirstLine(String firstLine);
 
 	List<T> processLine(List<String> allLine);
+
+	T parseLine(String line);
+
+	default List<T> parseLines(List<String> lines) {
+		return ChunkedLineParser.parse(lines, this::parseLine);
+	}
 }
@@ -21,6 +21,9 @@ public enum FileValidationMessage {
 	INVALID_PROMOTION_START_DATE("[ERROR] 파일의 프로모션 시작 날짜가 올바르지 않습니다."),
 	INVALID_PROMOTION_END_DATE("[ERROR] 파일의 프로모션 끝 날짜가 올바르지 않습니다."),
 	INVALID_PROMOTION_DATE_RANGE("[ERROR] 파일의 프로모션 시작 날짜가 종료 날짜보다 늦습니다."),
+	INVALID_CATALOG_FORMAT("[ERROR] 카탈로그 파일 형식이 올바르지 않습니다."),
+	INVALID_CATALOG_VERSION("[ERROR] 지원하지 않는 카탈로그 파일 버전입니다."),
+	INVALID_BATCH_ORDER_FORMAT("[ERROR] 일괄 주문 파일의 형식이 올바르지 않습니다."),
 	;
 
 	private final String message;
@@ -5,7 +5,6 @@ import java.util.List;
 import store.domain.product.PrimitiveProductInfo;
 
 public class ProductFileValidatingParser implements FileValidatingParser<PrimitiveProductInfo> {
-	private static final String DELIMITER = ",";
 	private static final int PRODUCT_COLUMN_SIZE = 4;
 	private static final int HEADER_LINES_TO_SKIP = 1;
 
@@ -32,90 +31,85 @@ public class ProductFileValidatingParser implements FileValidatingParser<Primiti
 
 	@Override
 	public void validateFirstLine(String firstLine) {
-		String[] splitLine = firstLine.split(DELIMITER);
-		validateColumnSize(splitLine);
+		validateColumnSize(DelimitedLine.of(firstLine));
 	}
 
 	@Override
 	public List<PrimitiveProductInfo> processLine(List<String> allLine) {
-		return allLine.stream()
-			.skip(HEADER_LINES_TO_SKIP)
-			.map(this::convertPrimitiveProductInfo)
-			.toList();
+		int firstBodyLine = Math.min(HEADER_LINES_TO_SKIP, allLine.size());
+		return parseLines(allLine.subList(firstBodyLine, allLine.size()));
 	}
 
-	private PrimitiveProductInfo convertPrimitiveProductInfo(String line) {
-		validateReadLine(line);
-		String[] splitLine = line.split(DELIMITER);
+	@Override
+	public PrimitiveProductInfo parseLine(String line) {
+		DelimitedLine delimitedLine = DelimitedLine.of(line);
+		validateColumnSize(delimitedLine);
+		int price = parsePrice(delimitedLine);
+		int quantity = parseQuantity(delimitedLine);
 		return new PrimitiveProductInfo(
-			splitLine[PRODUCT_NAME_INDEX],
-			Integer.parseInt(splitLine[PRODUCT_PRICE_INDEX]),
-			Integer.parseInt(splitLine[PRODUCT_QUANTITY_INDEX]),
-			splitLine[PRODUCT_PROMOTION_INDEX]);
-	}
-
-	private void validateReadLine(String line) {
-		String[] splitLine = line.split(DELIMITER);
-		validateColumnSize(splitLine);
-		validatePrice(splitLine);
-		validateQuantity(splitLine);
+			delimitedLine.get(PRODUCT_NAME_INDEX),
+			price,
+			quantity,
+			delimitedLine.get(PRODUCT_PROMOTION_INDEX));
 	}
 
-	private void validatePrice(String[] splitLine) {
-		validatePriceOverFlow(splitLine);
-		validatePriceNumber(splitLine);
-		validatePriceMinNumber(splitLine);
+	private int parsePrice(DelimitedLine line) {
+		validatePriceOverFlow(line);
+		int price = parsePriceNumber(line);
+		validatePriceMinNumber(price);
+		return price;
 	}
 
-	private void validateQuantity(String[] splitLine) {
-		validateQuantityOverFlow(splitLine);
-		validateQuantityNumber(splitLine);
-		validateQuantityMinNumber(splitLine);
+	private int parseQuantity(DelimitedLine line) {
+		validateQuantityOverFlow(line);
+		int quantity = parseQuantityNumber(line);
+		validateQuantityMinNumber(quantity);
+		return quantity;
 	}
 
-	private void validateColumnSize(String[] line) {
-		if (line.length != PRODUCT_COLUMN_SIZE) {
+	private void validateColumnSize(DelimitedLine line) {
+		if (line.size() != PRODUCT_COLUMN_SIZE) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PRODUCT_COLUMN_SIZE.getMessage());
 		}
 	}
 
-	private void validatePriceOverFlow(String[] line) {
-		if (line[PRODUCT_PRICE_INDEX].length() > MAX_INTEGER_LENGTH) {
+	private void validatePriceOverFlow(DelimitedLine line) {
+		if (line.length(PRODUCT_PRICE_INDEX) > MAX_INTEGER_LENGTH) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PRODUCT_PRICE_OVER_FLOW.getMessage());
 		}
 	}
 
-	private void validatePriceNumber(String[] line) {
+	private int parsePriceNumber(DelimitedLine line) {
 		try {
-			Integer.parseInt(line[PRODUCT_PRICE_INDEX]);
+			return line.parseInt(PRODUCT_PRICE_INDEX);
 		} catch (NumberFormatException numberFormatException) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PRODUCT_PRICE_NUMBER.getMessage());
 		}
 	}
 
-	private void validatePriceMinNumber(String[] line) {
-		if (Integer.parseInt(line[PRODUCT_PRICE_INDEX]) < MIN_VALID_PRICE_NUMBER) {
+	private void validatePriceMinNumber(int price) {
+		if (price < MIN_VALID_PRICE_NUMBER) {
 			throw new IllegalArgumentException(
 				FileValidationMessage.INVALID_PRODUCT_PRICE_MIN_NUMBER.getMessage());
 		}
 	}
 
-	private void validateQuantityOverFlow(String[] line) {
-		if (line[PRODUCT_QUANTITY_INDEX].length() > MAX_INTEGER_LENGTH) {
+	private void validateQuantityOverFlow(DelimitedLine line) {
+		if (line.length(PRODUCT_QUANTITY_INDEX) > MAX_INTEGER_LENGTH) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PRODUCT_QUANTITY_OVER_FLOW.getMessage());
 		}
 	}
 
-	private void validateQuantityNumber(String[] line) {
+	private int parseQuantityNumber(DelimitedLine line) {
 		try {
-			Integer.parseInt(line[PRODUCT_QUANTITY_INDEX]);
+			return line.parseInt(PRODUCT_QUANTITY_INDEX);
 		} catch (NumberFormatException numberFormatException) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PRODUCT_QUANTITY_NUMBER.getMessage());
 		}
 	}
 
-	private void validateQuantityMinNumber(String[] line) {
-		if (Integer.parseInt(line[PRODUCT_QUANTITY_INDEX]) < MIN_VALID_QUANTITY_NUMBER) {
+	private void validateQuantityMinNumber(int quantity) {
+		if (quantity < MIN_VALID_QUANTITY_NUMBER) {
 			throw new IllegalArgumentException(
 				FileValidationMessage.INVALID_PRODUCT_QUANTITY_MIN_NUMBER.getMessage());
 		}
@@ -8,7 +8,6 @@ import java.util.List;
 import store.domain.promotion.PrimitivePromotionInfo;
 
 public class PromotionFileValidatingParser implements FileValidatingParser<PrimitivePromotionInfo> {
-	private static final String DELIMITER = ",";
 	private static final int PROMOTION_COLUMN_SIZE = 5;
 	private static final int HEADER_LINES_TO_SKIP = 1;
 
@@ -37,123 +36,112 @@ public class PromotionFileValidatingParser implements FileValidatingParser<Primi
 
 	@Override
 	public void validateFirstLine(String firstLine) {
-		String[] splitLine = firstLine.split(DELIMITER);
-		validateColumnSize(splitLine);
+		validateColumnSize(DelimitedLine.of(firstLine));
 	}
 
 	@Override
 	public List<PrimitivePromotionInfo> processLine(List<String> allLine) {
-		return allLine.stream()
-			.skip(HEADER_LINES_TO_SKIP)
-			.map(this::convertPrimitiveProductInfo)
-			.toList();
+		int firstBodyLine = Math.min(HEADER_LINES_TO_SKIP, allLine.size());
+		return parseLines(allLine.subList(firstBodyLine, allLine.size()));
 	}
 
-	private PrimitivePromotionInfo convertPrimitiveProductInfo(String line) {
-		validateReadLine(line);
-		String[] splitLine = line.split(DELIMITER);
-		return new PrimitivePromotionInfo(
-			splitLine[PROMOTION_NAME_INDEX],
-			Integer.parseInt(splitLine[PROMOTION_BUY_INDEX]),
-			Integer.parseInt(splitLine[PROMOTION_GET_INDEX]),
-			splitLine[PROMOTION_START_DATE_INDEX],
-			splitLine[PROMOTION_END_DATE_INDEX]);
-	}
-
-	private void validateReadLine(String line) {
-		String[] splitLine = line.split(DELIMITER);
-		validateColumnSize(splitLine);
-		validateBuy(splitLine);
-		validateGet(splitLine);
-		validateDate(splitLine);
-	}
-
-	private void validateColumnSize(String[] line) {
-		if (line.length != PROMOTION_COLUMN_SIZE) {
+	@Override
+	public PrimitivePromotionInfo parseLine(String line) {
+		DelimitedLine delimitedLine = DelimitedLine.of(line);
+		validateColumnSize(delimitedLine);
+		int buy = parseBuy(delimitedLine);
+		int get = parseGet(delimitedLine);
+		String startDate = delimitedLine.get(PROMOTION_START_DATE_INDEX);
+		String endDate = delimitedLine.get(PROMOTION_END_DATE_INDEX);
+		validateDate(startDate, endDate);
+		return new PrimitivePromotionInfo(delimitedLine.get(PROMOTION_NAME_INDEX), buy, get, startDate, endDate);
+	}
+
+	private void validateColumnSize(DelimitedLine line) {
+		if (line.size() != PROMOTION_COLUMN_SIZE) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PROMOTION_COLUMN_SIZE.getMessage());
 		}
 	}
 
-	private void validateBuy(String[] splitLine) {
-		validateBuyOverFlow(splitLine);
-		validateBuyNumber(splitLine);
-		validateBuyMinNumber(splitLine);
+	private int parseBuy(DelimitedLine line) {
+		validateBuyOverFlow(line);
+		int buy = parseBuyNumber(line);
+		validateBuyMinNumber(buy);
+		return buy;
 	}
 
-	private void validateGet(String[] splitLine) {
-		validateGetOverFlow(splitLine);
-		validateGetNumber(splitLine);
-		validateGetMinNumber(splitLine);
+	private int parseGet(DelimitedLine line) {
+		validateGetOverFlow(line);
+		int get = parseGetNumber(line);
+		validateGetMinNumber(get);
+		return get;
 	}
 
-	private void validateDate(String[] splitLine) {
-		validateStartDate(splitLine);
-		validateEndDate(splitLine);
-		validateDateRange(splitLine);
+	private void validateDate(String startDate, String endDate) {
+		LocalDate parsedStartDate = parseStartDate(startDate);
+		LocalDate parsedEndDate = parseEndDate(endDate);
+		validateDateRange(parsedStartDate, parsedEndDate);
 	}
 
-	private void validateBuyOverFlow(String[] line) {
-		if (line[PROMOTION_BUY_INDEX].length() > MAX_INTEGER_LENGTH) {
+	private void validateBuyOverFlow(DelimitedLine line) {
+		if (line.length(PROMOTION_BUY_INDEX) > MAX_INTEGER_LENGTH) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PROMOTION_BUY_OVER_FLOW.getMessage());
 		}
 	}
 
-	private void validateBuyNumber(String[] line) {
+	private int parseBuyNumber(DelimitedLine line) {
 		try {
-			Integer.parseInt(line[PROMOTION_BUY_INDEX]);
+			return line.parseInt(PROMOTION_BUY_INDEX);
 		} catch (NumberFormatException numberFormatException) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PROMOTION_BUY_NUMBER.getMessage());
 		}
 	}
 
-	private void validateBuyMinNumber(String[] line) {
-		if (Integer.parseInt(line[PROMOTION_BUY_INDEX]) < MIN_VALID_NUMBER) {
+	private void validateBuyMinNumber(int buy) {
+		if (buy < MIN_VALID_NUMBER) {
 			throw new IllegalArgumentException(
 				FileValidationMessage.INVALID_PROMOTION_BUY_MIN_NUMBER.getMessage());
 		}
 	}
 
-	private void validateGetOverFlow(String[] line) {
-		if (line[PROMOTION_GET_INDEX].length() > MAX_INTEGER_LENGTH) {
+	private void validateGetOverFlow(DelimitedLine line) {
+		if (line.length(PROMOTION_GET_INDEX) > MAX_INTEGER_LENGTH) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PROMOTION_GET_OVER_FLOW.getMessage());
 		}
 	}
 
-	private void validateGetNumber(String[] line) {
+	private int parseGetNumber(DelimitedLine line) {
 		try {
-			Integer.parseInt(line[PROMOTION_GET_INDEX]);
+			return line.parseInt(PROMOTION_GET_INDEX);
 		} catch (NumberFormatException numberFormatException) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PROMOTION_GET_NUMBER.getMessage());
 		}
 	}
 
-	private void validateGetMinNumber(String[] line) {
-		if (Integer.parseInt(line[PROMOTION_GET_INDEX]) < MIN_VALID_NUMBER) {
+	private void validateGetMinNumber(int get) {
+		if (get < MIN_VALID_NUMBER) {
 			throw new IllegalArgumentException(
 				FileValidationMessage.INVALID_PROMOTION_GET_MIN_NUMBER.getMessage());
 		}
 	}
 
-	private void validateStartDate(String[] line) {
+	private LocalDate parseStartDate(String startDate) {
 		try {
-			LocalDate.parse(line[PROMOTION_START_DATE_INDEX], DATE_FORMATTER);
+			return LocalDate.parse(startDate, DATE_FORMATTER);
 		} catch (DateTimeParseException dateTimeParseException) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PROMOTION_START_DATE.getMessage());
 		}
 	}
 
-	private void validateEndDate(String[] line) {
+	private LocalDate parseEndDate(String endDate) {
 		try {
-			LocalDate.parse(line[PROMOTION_END_DATE_INDEX], DATE_FORMATTER);
+			return LocalDate.parse(endDate, DATE_FORMATTER);
 		} catch (DateTimeParseException dateTimeParseException) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PROMOTION_END_DATE.getMessage());
 		}
 	}
 
-	private void validateDateRange(String[] line) {
-		LocalDate startDate = LocalDate.parse(line[PROMOTION_START_DATE_INDEX], DATE_FORMATTER);
-		LocalDate endDate = LocalDate.parse(line[PROMOTION_END_DATE_INDEX], DATE_FORMATTER);
-
+	private void validateDateRange(LocalDate startDate, LocalDate endDate) {
 		if (startDate.isAfter(endDate)) {
 			throw new IllegalArgumentException(FileValidationMessage.INVALID_PROMOTION_DATE_RANGE.getMessage());
 		}
@@ -0,0 +1,22 @@
+package store.validator.input;
+
+enum OrderInputError {
+	NONE(null),
+	INVALID_BRACKET(InputValidationMessage.INVALID_ORDER_LIST_FORMAT),
+	INVALID_NAME_QUANTITY_DELIMITER(InputValidationMessage.INVALID_ORDER_LIST_FORMAT),
+	QUANTITY_OVER_LENGTH(InputValidationMessage.INVALID_ORDER_LIST_FORMAT),
+	QUANTITY_NOT_NUMBER(InputValidationMessage.INVALID_ORDER_LIST_FORMAT),
+	QUANTITY_UNDER_MINIMUM(InputValidationMessage.INVALID_ORDER_LIST_FORMAT),
+	DUPLICATE_NAME(InputValidationMessage.INVALID_ORDER_LIST_FORMAT)
+	;
+
+	private final InputValidationMessage message;
+
+	OrderInputError(InputValidationMessage message) {
+		this.message = message;
+	}
+
+	String getMessage() {
+		return message.getMessage();
+	}
+}
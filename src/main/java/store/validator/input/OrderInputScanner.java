@@ -0,0 +1,131 @@
+package store.validator.input;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import store.domain.order.OrderItem;
+
+class OrderInputScanner {
+	private static final char PRODUCT_DELIMITER = ',';
+	private static final char NAME_QUANTITY_DELIMITER = '-';
+	private static final char START_CHARACTER = '[';
+	private static final char END_CHARACTER = ']';
+	private static final char PLUS_SIGN = '+';
+	private static final int MIN_ITEM_LENGTH = 2;
+	private static final int MAX_LENGTH = 10;
+	private static final int MIN_QUANTITY = 1;
+	private static final int RADIX = 10;
+
+	private final CharSequence input;
+	private final List<OrderItem> orderItems;
+	private final Set<String> names;
+	private int quantity;
+
+	private OrderInputScanner(CharSequence input) {
+		this.input = input;
+		this.orderItems = new ArrayList<>();
+		this.names = new HashSet<>();
+	}
+
+	static OrderInputScanner of(CharSequence input) {
+		return new OrderInputScanner(input);
+	}
+
+	OrderInputError scan() {
+		if (input.isEmpty()) {
+			return OrderInputError.INVALID_BRACKET;
+		}
+		int end = trimTrailing(0, input.length(), PRODUCT_DELIMITER);
+		OrderInputError error = OrderInputError.NONE;
+		for (int start = 0; start < end && error == OrderInputError.NONE; ) {
+			int itemEnd = indexOf(PRODUCT_DELIMITER, start, end);
+			error = scanItem(start, itemEnd);
+			start = itemEnd + 1;
+		}
+		return error;
+	}
+
+	List<OrderItem> getOrderItems() {
+		return Collections.unmodifiableList(orderItems);
+	}
+
+	private OrderInputError scanItem(int start, int end) {
+		if (end - start < MIN_ITEM_LENGTH || input.charAt(start) != START_CHARACTER
+			|| input.charAt(end - 1) != END_CHARACTER) {
+			return OrderInputError.INVALID_BRACKET;
+		}
+		return scanContents(start + 1, end - 1);
+	}
+
+	private OrderInputError scanContents(int start, int end) {
+		int contentsEnd = trimTrailing(start, end, NAME_QUANTITY_DELIMITER);
+		int delimiter = indexOf(NAME_QUANTITY_DELIMITER, start, contentsEnd);
+		if (delimiter == contentsEnd || indexOf(NAME_QUANTITY_DELIMITER, delimiter + 1, contentsEnd) != contentsEnd) {
+			return OrderInputError.INVALID_NAME_QUANTITY_DELIMITER;
+		}
+		OrderInputError error = scanQuantity(delimiter + 1, contentsEnd);
+		if (error != OrderInputError.NONE) {
+			return error;
+		}
+		return addOrderItem(input.subSequence(start, delimiter).toString());
+	}
+
+	private OrderInputError scanQuantity(int start, int end) {
+		if (end - start > MAX_LENGTH) {
+			return OrderInputError.QUANTITY_OVER_LENGTH;
+		}
+		int digitStart = start;
+		if (input.charAt(start) == PLUS_SIGN) {
+			digitStart++;
+		}
+		long value = parseDigits(digitStart, end);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			return OrderInputError.QUANTITY_NOT_NUMBER;
+		}
+		if (value < MIN_QUANTITY) {
+			return OrderInputError.QUANTITY_UNDER_MINIMUM;
+		}
+		quantity = (int)value;
+		return OrderInputError.NONE;
+	}
+
+	private long parseDigits(int start, int end) {
+		long value = -1;
+		for (int index = start; index < end; index++) {
+			int digit = Character.digit(input.charAt(index), RADIX);
+			if (digit < 0) {
+				return -1;
+			}
+			value = Math.max(value, 0) * RADIX + digit;
+		}
+		return value;
+	}
+
+	private OrderInputError addOrderItem(String name) {
+		if (!names.add(name)) {
+			return OrderInputError.DUPLICATE_NAME;
+		}
+		orderItems.add(new OrderItem(name, quantity));
+		return OrderInputError.NONE;
+	}
+
+	private int indexOf(char target, int start, int end) {
+		for (int index = start; index < end; index++) {
+			if (input.charAt(index) == target) {
+				return index;
+			}
+		}
+		return end;
+	}
+
+	private int trimTrailing(int start, int end, char target) {
+		int trimmedEnd = end;
+		while (trimmedEnd > start && input.charAt(trimmedEnd - 1) == target) {
+			trimmedEnd--;
+		}
+		return trimmedEnd;
+	}
+}
@@ -7,6 +7,7 @@ public enum PromotionValidateMessage {
 	INVALID_DATE("[ERROR] 프로모션 기간은 비어있을수 없습니다."),
 	INVALID_DATE_FORMAT("[ERROR] 날짜 형식이 잘못되었습니다."),
 	INVALID_START_DATE_BEFORE_END_DATE("[ERROR] 프로모션 시작일은 종료일보다 이전이여야 합니다."),
+	INVALID_DUPLICATE_NAME("[ERROR] 중복된 이름의 프로모션은 등록할 수 없습니다."),
 	;
 
 	private final String message;
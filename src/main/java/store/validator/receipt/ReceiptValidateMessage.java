@@ -0,0 +1,18 @@
+package store.validator.receipt;
+
+public enum ReceiptValidateMessage {
+	INVALID_SINK_CLOSED("[ERROR] 영수증 출력이 종료되어 영수증을 보낼 수 없습니다."),
+	INVALID_PRINTER_QUEUE_FULL("[ERROR] 영수증 프린터 대기열이 가득 차 영수증을 출력하지 못했습니다."),
+	INVALID_SPOOL_DIRECTORY("[ERROR] 영수증 저장 디렉터리를 열 수 없습니다.")
+	;
+
+	private final String message;
+
+	ReceiptValidateMessage(String message) {
+		this.message = message;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+}
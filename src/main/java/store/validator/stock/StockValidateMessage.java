@@ -2,10 +2,15 @@ package store.validator.stock;
 
 public enum StockValidateMessage {
 	INVALID_DUPLICATE_PRODUCT("[ERROR] 중복된 상품은 등록할 수 없습니다."),
-	INVALID_DUPLICATE_PROMOTIONS("[ERROR] 하나의 상품에는 하나의 프로모션만 가능합니다."),
+	INVALID_DUPLICATE_PROMOTIONS("[ERROR] 하나의 상품에 같은 프로모션을 중복으로 등록할 수 없습니다."),
+	INVALID_SCHEDULED_PRICE("[ERROR] 같은 상품의 프로모션 가격은 모두 같아야 합니다."),
 	INVALID_ORDER_PRODUCT("[ERROR] 존재하지 않는 상품입니다. 다시 입력해 주세요."),
 	INVALID_ORDER_OUT_OF_STOCK("[ERROR] 재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요."),
-	INVALID_ORDER_NOT_APPLY_PROMOTION("[ERROR] 재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요.")
+	INVALID_ORDER_NOT_APPLY_PROMOTION("[ERROR] 재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요."),
+	INVALID_JOURNAL_CLOSED("[ERROR] 재고 기록이 종료되어 주문을 저장할 수 없습니다."),
+	INVALID_JOURNAL_WRITE("[ERROR] 재고 기록을 저장하지 못해 주문을 취소했습니다."),
+	INVALID_SNAPSHOT("[ERROR] 재고 스냅샷 파일이 손상되었습니다."),
+	INVALID_PAGE_SIZE("[ERROR] 페이지 크기는 1 이상이어야 합니다.")
 	;
 
 	private final String message;
@@ -0,0 +1,44 @@
+package store.api;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedMapTest {
+	@DisplayName("용량을 넘으면 가장 먼저 넣은 항목부터 버린다.")
+	@Test
+	void putOverCapacity() {
+		//given
+		BoundedMap<Long, String> receipts = BoundedMap.withCapacity(2);
+
+		//when
+		receipts.put(1L, "콜라");
+		receipts.put(2L, "사이다");
+		receipts.put(3L, "물");
+
+		//then
+		assertThat(receipts.size()).isEqualTo(2);
+		assertThat(receipts.get(1L)).isNull();
+		assertThat(receipts.get(3L)).isEqualTo("물");
+	}
+
+	@DisplayName("이미 있는 키는 덮어쓰지 않고, 지울 때는 값이 같을 때만 지운다.")
+	@Test
+	void putIfAbsentAndRemove() {
+		//given
+		BoundedMap<String, String> commits = BoundedMap.withCapacity(2);
+		commits.putIfAbsent("order-1", "첫 요청");
+
+		//when
+		String previous = commits.putIfAbsent("order-1", "재시도");
+		boolean removedStale = commits.remove("order-1", "재시도");
+
+		//then
+		assertThat(previous).isEqualTo("첫 요청");
+		assertThat(removedStale).isFalse();
+		assertThat(commits.get("order-1")).isEqualTo("첫 요청");
+		assertThat(commits.remove("order-1", "첫 요청")).isTrue();
+		assertThat(commits.size()).isZero();
+	}
+}
@@ -0,0 +1,156 @@
+package store.api;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.checkout.Checkout;
+import store.domain.membershop.Membership;
+import store.domain.product.Product;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.domain.promotion.Promotion;
+import store.domain.stock.Stock;
+
+class CheckoutHttpServerTest {
+	private static final int CONCURRENT_REQUESTS = 400;
+
+	private Stock stock;
+	private CheckoutHttpServer server;
+	private HttpClient client;
+
+	@BeforeEach
+	void setUp() {
+		Promotion promotion = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2000-01-01", "2099-12-31"));
+		stock = Stock.from(List.of(
+			Product.of("콜라", 1000, 10, promotion),
+			Product.of("콜라", 1000, 10, null),
+			Product.of("물", 500, 100, null)
+		));
+		CheckoutService checkoutService = CheckoutService.of(stock, Checkout.of(stock, Membership.create()),
+			order -> {
+			});
+		server = CheckoutHttpServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+			checkoutService);
+		client = HttpClient.newHttpClient();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop();
+		client.close();
+	}
+
+	@DisplayName("상품 목록을 조회 조건에 맞게 JSON으로 반환한다.")
+	@Test
+	void listProducts() throws IOException, InterruptedException {
+		//when
+		HttpResponse<String> response = send(get("/products?keyword=%EB%AC%BC&size=5"));
+
+		//then
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.body())
+			.isEqualTo("{\"products\":[{\"name\":\"물\",\"price\":500,\"quantity\":100,\"promotion\":null}],"
+				+ "\"nextCursor\":null}");
+	}
+
+	@DisplayName("견적은 재고를 차감하지 않고, 결제는 재고를 차감한 뒤 영수증 번호로 영수증을 조회할 수 있다.")
+	@Test
+	void quoteAndCommit() throws IOException, InterruptedException {
+		//when
+		HttpResponse<String> quote = send(post("/orders/quote?decisions=maximize-promotion", "[콜라-2]"));
+		HttpResponse<String> commit = send(post("/orders?decisions=maximize-promotion", "[콜라-2]"));
+		HttpResponse<String> receipt = send(get("/receipts/1"));
+
+		//then
+		assertThat(quote.statusCode()).isEqualTo(200);
+		assertThat(quote.body()).contains("\"totalQuantity\":3", "\"finalAmount\":2000");
+		assertThat(commit.statusCode()).isEqualTo(201);
+		assertThat(commit.body()).startsWith("{\"receiptId\":1,");
+		assertThat(receipt.statusCode()).isEqualTo(200);
+		assertThat(receipt.body()).contains("콜라\t\t3\t3,000");
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(7, 10, 100);
+	}
+
+	@DisplayName("견적의 질문에 대한 선택과 멱등성 키로 결제하고, 재시도해도 같은 영수증을 반환하며 재고를 한 번만 차감한다.")
+	@Test
+	void commitWithChoicesAndIdempotencyKey() throws IOException, InterruptedException {
+		//given
+		HttpRequest commit = HttpRequest.newBuilder(uri("/orders?promotion=%EC%BD%9C%EB%9D%BC:Y&membership=Y"))
+			.header("Idempotency-Key", "terminal-7-0001")
+			.POST(HttpRequest.BodyPublishers.ofString("[콜라-2]"))
+			.build();
+
+		//when
+		HttpResponse<String> quote = send(post("/orders/quote", "[콜라-2]"));
+		HttpResponse<String> first = send(commit);
+		HttpResponse<String> retry = send(commit);
+
+		//then
+		assertThat(quote.body()).contains("\"question\":\"promotion\"", "\"result\":\"BELOW_QUANTITY\"",
+			"\"additionalQuantity\":1");
+		assertThat(first.statusCode()).isEqualTo(201);
+		assertThat(retry.body()).isEqualTo(first.body());
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(7, 10, 100);
+	}
+
+	@DisplayName("잘못된 주문은 400, 재고 부족은 409, 없는 영수증과 경로는 404, 잘못된 요청 방식은 405로 응답한다.")
+	@Test
+	void errors() throws IOException, InterruptedException {
+		//when & then
+		assertThat(send(post("/orders", "콜라-2")).statusCode()).isEqualTo(400);
+		assertThat(send(post("/orders", "[물-101]")).statusCode()).isEqualTo(409);
+		assertThat(send(get("/receipts/99")).statusCode()).isEqualTo(404);
+		assertThat(send(get("/ordersheet")).statusCode()).isEqualTo(404);
+		assertThat(send(get("/orders")).statusCode()).isEqualTo(405);
+	}
+
+	@DisplayName("동시에 들어온 결제 요청은 재고보다 많이 판매하지 않는다.")
+	@Test
+	void commitConcurrently() {
+		//given
+		List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+
+		//when
+		for (int count = 0; count < CONCURRENT_REQUESTS; count++) {
+			responses.add(client.sendAsync(post("/orders", "[물-1]"), HttpResponse.BodyHandlers.ofString()));
+		}
+		long committed = responses.stream()
+			.map(CompletableFuture::join)
+			.filter(response -> response.statusCode() == 201)
+			.count();
+
+		//then
+		assertThat(committed).isEqualTo(100);
+		assertThat(stock.getProducts().get(2).getQuantity()).isEqualTo(0);
+	}
+
+	private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(uri(path)).GET().build();
+	}
+
+	private HttpRequest post(String path, String body) {
+		return HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + server.getPort() + path);
+	}
+}
@@ -0,0 +1,153 @@
+package store.api;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.checkout.Checkout;
+import store.checkout.ChoiceDecisionPolicy;
+import store.checkout.FixedDecisionPolicy;
+import store.checkout.ItemQuote;
+import store.checkout.OrderQuote;
+import store.domain.membershop.Membership;
+import store.domain.order.OrderItem;
+import store.domain.product.Product;
+import store.domain.product.PromotionOrderResult;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.domain.promotion.Promotion;
+import store.domain.stock.Stock;
+import store.validator.checkout.CheckoutValidateMessage;
+
+class CheckoutServiceTest {
+	private static final int RETRY_COUNT = 32;
+
+	private Stock stock;
+	private CheckoutService checkoutService;
+
+	@BeforeEach
+	void setUp() {
+		Promotion promotion = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2000-01-01", "2099-12-31"));
+		stock = Stock.from(List.of(
+			Product.of("콜라", 1000, 10, promotion),
+			Product.of("콜라", 1000, 10, null),
+			Product.of("사이다", 1000, 3, promotion),
+			Product.of("사이다", 1000, 10, null),
+			Product.of("물", 500, 10, null)
+		));
+		checkoutService = CheckoutService.of(stock, Checkout.of(stock, Membership.create()), order -> {
+		});
+	}
+
+	@DisplayName("견적은 재고를 예약하거나 차감하지 않고 주문 항목마다 프로모션 적용 상태를 한 번에 반환한다.")
+	@Test
+	void quote() {
+		//given
+		List<OrderItem> orderItems = List.of(new OrderItem("콜라", 2), new OrderItem("사이다", 5),
+			new OrderItem("물", 1));
+		List<Integer> changedIndexes = new ArrayList<>();
+		stock.onQuantityChanged(changedIndexes::add);
+
+		//when
+		OrderQuote orderQuote = checkoutService.quote(orderItems, FixedDecisionPolicy.asOrdered());
+
+		//then
+		List<ItemQuote> itemQuotes = orderQuote.itemQuotes();
+		assertThat(itemQuotes.get(0).promotionOrderStatus().result()).isEqualTo(PromotionOrderResult.BELOW_QUANTITY);
+		assertThat(itemQuotes.get(0).asksApplyPromotion()).isTrue();
+		assertThat(itemQuotes.get(1).promotionOrderStatus().result())
+			.isEqualTo(PromotionOrderResult.INSUFFICIENT_STOCK);
+		assertThat(itemQuotes.get(1).promotionOrderStatus().displayQuantity()).isEqualTo(2);
+		assertThat(itemQuotes.get(1).asksNonDisCount()).isTrue();
+		assertThat(itemQuotes.get(2).hasPromotion()).isFalse();
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(10, 10, 3, 10, 10);
+		assertThat(changedIndexes).isEmpty();
+	}
+
+	@DisplayName("견적에서 받은 선택으로 결제하고, 같은 멱등성 키로 다시 요청하면 재고를 다시 차감하지 않는다.")
+	@Test
+	void commitIdempotent() throws InterruptedException, ExecutionException {
+		//given
+		List<OrderItem> orderItems = List.of(new OrderItem("콜라", 2), new OrderItem("사이다", 5));
+		ChoiceDecisionPolicy policy = ChoiceDecisionPolicy.from("콜라:Y", "사이다:N", "N");
+		List<Future<CommittedOrder>> retries = new ArrayList<>();
+
+		//when
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int count = 0; count < RETRY_COUNT; count++) {
+				retries.add(executor.submit(() -> checkoutService.commit("order-1", orderItems,
+					ChoiceDecisionPolicy.from("콜라:Y", "사이다:N", "N"))));
+			}
+		}
+		CommittedOrder committedOrder = checkoutService.commit("order-1", orderItems, policy);
+
+		//then
+		for (Future<CommittedOrder> retry : retries) {
+			assertThat(retry.get().receiptId()).isEqualTo(committedOrder.receiptId());
+		}
+		assertThat(committedOrder.order().getTotalQuantity()).isEqualTo(6);
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(7, 10, 0, 10, 10);
+	}
+
+	@DisplayName("같은 멱등성 키로 다른 주문을 결제하면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void commitReusedIdempotencyKey() {
+		//given
+		checkoutService.commit("order-1", List.of(new OrderItem("물", 1)), FixedDecisionPolicy.asOrdered());
+
+		//when & then
+		assertThatThrownBy(() -> checkoutService.commit("order-1", List.of(new OrderItem("물", 2)),
+			FixedDecisionPolicy.asOrdered()))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(CheckoutValidateMessage.INVALID_IDEMPOTENCY_KEY_REUSED.getMessage());
+		assertThat(stock.getProducts().get(4).getQuantity()).isEqualTo(9);
+	}
+
+	@DisplayName("견적 이후 상태가 바뀌어 선택이 없는 질문이 생기면 IllegalStateException 예외가 발생하고 재고를 차감하지 않는다.")
+	@Test
+	void commitMissingChoice() {
+		//given
+		ChoiceDecisionPolicy policy = ChoiceDecisionPolicy.from("", "", "Y");
+
+		//when & then
+		assertThatThrownBy(() -> checkoutService.commit("order-1", List.of(new OrderItem("콜라", 2)), policy))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(CheckoutValidateMessage.INVALID_CHOICE_MISSING.getMessage());
+		assertThat(stock.getProducts().getFirst().getQuantity()).isEqualTo(10);
+		assertThat(checkoutService.commit("order-1", List.of(new OrderItem("콜라", 2)),
+			ChoiceDecisionPolicy.from("콜라:N", "", "Y")).order().getTotalQuantity()).isEqualTo(2);
+	}
+
+	@DisplayName("재고를 차감한 뒤 영수증 출력이 실패해도 멱등성 키를 지우지 않아 재시도는 같은 영수증을 받는다.")
+	@Test
+	void commitReceiptConsumerFailure() {
+		//given
+		AtomicBoolean failed = new AtomicBoolean();
+		CheckoutService failingService = CheckoutService.of(stock, Checkout.of(stock, Membership.create()),
+			order -> {
+				if (failed.compareAndSet(false, true)) {
+					throw new IllegalStateException();
+				}
+			});
+		List<OrderItem> orderItems = List.of(new OrderItem("물", 2));
+
+		//when
+		assertThatThrownBy(() -> failingService.commit("order-1", orderItems, FixedDecisionPolicy.asOrdered()))
+			.isInstanceOf(IllegalStateException.class);
+		CommittedOrder retried = failingService.commit("order-1", orderItems, FixedDecisionPolicy.asOrdered());
+
+		//then
+		assertThat(retried.receiptId()).isEqualTo(1);
+		assertThat(failingService.findReceipt(1)).isSameAs(retried.order());
+		assertThat(stock.getProducts().get(4).getQuantity()).isEqualTo(8);
+	}
+}
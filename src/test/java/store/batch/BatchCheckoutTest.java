@@ -0,0 +1,150 @@
+package store.batch;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import store.checkout.Checkout;
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.domain.product.Product;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.domain.promotion.Promotion;
+import store.domain.stock.Stock;
+import store.domain.stock.StockDeduction;
+import store.domain.stock.StockJournal;
+import store.io.journal.FileStockJournal;
+import store.validator.file.FileValidationMessage;
+import store.validator.input.InputValidationMessage;
+import store.validator.stock.StockValidateMessage;
+
+class BatchCheckoutTest {
+	@TempDir
+	Path directory;
+
+	@DisplayName("주문 파일의 주문을 미리 정한 응답으로 결제하고, 실패한 주문은 줄 번호와 함께 요약에 남긴다.")
+	@Test
+	void run() throws IOException {
+		//given
+		Promotion promotion = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2000-01-01", "2099-12-31"));
+		Stock stock = Stock.from(List.of(
+			Product.of("콜라", 1000, 10, promotion),
+			Product.of("콜라", 1000, 10, null),
+			Product.of("물", 500, 10, null)
+		));
+		Path ordersPath = Files.writeString(directory.resolve("orders.txt"), String.join("\n",
+			"# 주문|프로모션 추가|정가 결제|멤버십|추가 구매",
+			"[콜라-2]|Y|Y|N|Y",
+			"",
+			"[물-3]|N|N|Y|N",
+			"[없는상품-1]|N|N|N|N",
+			"[물-1]|N|N|X|N"));
+		List<Order> receipts = new ArrayList<>();
+		BatchCheckout batchCheckout = BatchCheckout.of(Checkout.of(stock, Membership.create()), stock, receipts::add);
+
+		//when
+		BatchSummary summary = batchCheckout.run(ordersPath);
+
+		//then
+		assertThat(receipts).hasSize(2);
+		assertThat(summary.orderCount()).isEqualTo(4);
+		assertThat(summary.committedCount()).isEqualTo(2);
+		assertThat(summary.failedCount()).isEqualTo(2);
+		assertThat(summary.sessionCount()).isEqualTo(2);
+		assertThat(summary.totalQuantity()).isEqualTo(6);
+		assertThat(summary.totalAmount()).isEqualTo(4500);
+		assertThat(summary.promotionDiscount()).isEqualTo(1000);
+		assertThat(summary.membershipDiscount()).isEqualTo(450);
+		assertThat(summary.finalAmount()).isEqualTo(3050);
+		assertThat(summary.failures()).extracting(BatchFailure::lineNumber).containsExactly(5L, 6L);
+		assertThat(summary.failures().get(1).message()).isEqualTo(InputValidationMessage.INVALID_ETC_FORMAT.getMessage());
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(7, 10, 7);
+	}
+
+	@DisplayName("주문 파일이 없으면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void runNotFound() {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("물", 500, 10, null)));
+		BatchCheckout batchCheckout = BatchCheckout.of(Checkout.of(stock, Membership.create()), stock, order -> {
+		});
+
+		//when & then
+		assertThatThrownBy(() -> batchCheckout.run(directory.resolve("missing.txt")))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(FileValidationMessage.INVALID_NOT_FOUND.getMessage());
+	}
+
+	@DisplayName("저널을 연결하면 묶음마다 기록을 기다린 뒤 영수증을 내보내고, 다시 열면 같은 재고로 복원한다.")
+	@Test
+	void runWithJournal() throws IOException {
+		//given
+		Path journalPath = directory.resolve("stock.journal");
+		Stock stock = Stock.from(List.of(Product.of("물", 500, 3000, null)));
+		FileStockJournal journal = FileStockJournal.open(journalPath,
+			entry -> stock.replay(entry.orderId(), entry.deductions()));
+		stock.attach(journal);
+		Path ordersPath = Files.writeString(directory.resolve("orders.txt"), "[물-1]|N|N|N|N\n".repeat(2000));
+		List<Order> receipts = new ArrayList<>();
+
+		//when
+		BatchSummary summary = BatchCheckout.of(Checkout.of(stock, Membership.create()), stock, receipts::add)
+			.run(ordersPath);
+		journal.close();
+
+		//then
+		Stock recoveredStock = Stock.from(List.of(Product.of("물", 500, 3000, null)));
+		FileStockJournal.open(journalPath, entry -> recoveredStock.replay(entry.orderId(), entry.deductions()))
+			.close();
+		assertThat(summary.committedCount()).isEqualTo(2000);
+		assertThat(receipts).hasSize(2000);
+		assertThat(recoveredStock.getProducts().getFirst().getQuantity()).isEqualTo(1000);
+	}
+
+	@DisplayName("저널 기록이 실패한 주문은 실패로 남기고 차감한 재고를 되돌린다.")
+	@Test
+	void runJournalFailure() throws IOException {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("물", 500, 10, null)));
+		stock.attach(new FailingStockJournal());
+		Path ordersPath = Files.writeString(directory.resolve("orders.txt"), "[물-3]|N|N|N|N\n[물-2]|N|N|N|N\n");
+		List<Order> receipts = new ArrayList<>();
+
+		//when
+		BatchSummary summary = BatchCheckout.of(Checkout.of(stock, Membership.create()), stock, receipts::add)
+			.run(ordersPath);
+
+		//then
+		assertThat(receipts).isEmpty();
+		assertThat(summary.failures()).extracting(BatchFailure::lineNumber).containsExactly(1L, 2L);
+		assertThat(summary.failures().getFirst().message())
+			.isEqualTo(StockValidateMessage.INVALID_JOURNAL_WRITE.getMessage());
+		assertThat(stock.getProducts().getFirst().getQuantity()).isEqualTo(10);
+	}
+
+	private static class FailingStockJournal implements StockJournal {
+		@Override
+		public void append(long orderId, List<StockDeduction> deductions) {
+			throw new UncheckedIOException(new IOException());
+		}
+
+		@Override
+		public CompletableFuture<Void> appendAsync(long orderId, List<StockDeduction> deductions) {
+			return CompletableFuture.failedFuture(new UncheckedIOException(new IOException()));
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package store.checkout;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.domain.order.OrderLineItem;
+import store.domain.product.Product;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.domain.promotion.Promotion;
+import store.domain.stock.Stock;
+import store.validator.stock.StockValidateMessage;
+
+class CheckoutEngineTest {
+	private static final int REGISTER_COUNT = 64;
+	private static final int ORDERS_PER_REGISTER = 50;
+
+	@DisplayName("주문 항목을 받아 재고를 차감하고 주문을 생성한다.")
+	@Test
+	void checkout() {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("물", 500, 10, null)));
+		CheckoutEngine checkoutEngine = CheckoutEngine.of(stock, Membership.create(), 1);
+
+		//when
+		Order order = checkoutEngine.checkout(List.of(OrderLineItem.ofNormal("물", 3, 500)), "N");
+		checkoutEngine.shutdown();
+
+		//then
+		assertThat(order.getFinalAmount()).isEqualTo(1500);
+		assertThat(stock.getProducts().getFirst().getQuantity()).isEqualTo(7);
+	}
+
+	@DisplayName("재고가 부족하면 IllegalStateException 예외가 발생하고 재고를 차감하지 않는다.")
+	@Test
+	void checkoutOutOfStock() {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("물", 500, 2, null), Product.of("콜라", 1000, 10, null)));
+		CheckoutEngine checkoutEngine = CheckoutEngine.of(stock, Membership.create(), 1);
+		List<OrderLineItem> orderLineItems = List.of(
+			OrderLineItem.ofNormal("콜라", 3, 1000),
+			OrderLineItem.ofNormal("물", 3, 500)
+		);
+
+		//when & then
+		assertThatThrownBy(() -> checkoutEngine.checkout(orderLineItems, "N"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(StockValidateMessage.INVALID_ORDER_OUT_OF_STOCK.getMessage());
+		checkoutEngine.shutdown();
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(2, 10);
+	}
+
+	@DisplayName("64개의 계산대가 동시에 주문해도 재고보다 많이 판매하지 않는다.")
+	@Test
+	void checkoutConcurrently() throws InterruptedException {
+		//given
+		Promotion promotion = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2024-01-01", "2024-12-31"));
+		Stock stock = Stock.from(List.of(
+			Product.of("콜라", 1000, 300, promotion),
+			Product.of("콜라", 1000, 200, null),
+			Product.of("물", 500, 700, null)
+		));
+		CheckoutEngine checkoutEngine = CheckoutEngine.of(stock, Membership.create(), REGISTER_COUNT);
+		List<OrderLineItem> orderLineItems = List.of(
+			OrderLineItem.of("콜라", 5, 1000, 3, 2, 1, true),
+			OrderLineItem.ofNormal("물", 7, 500)
+		);
+
+		//when
+		List<Future<Order>> futures = new ArrayList<>();
+		for (int count = 0; count < REGISTER_COUNT * ORDERS_PER_REGISTER; count++) {
+			futures.add(checkoutEngine.submit(orderLineItems, "N"));
+		}
+		int soldOrders = countSoldOrders(futures);
+		checkoutEngine.shutdown();
+
+		//then
+		assertThat(soldOrders).isEqualTo(100);
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(0, 0, 0);
+	}
+
+	private int countSoldOrders(List<Future<Order>> futures) throws InterruptedException {
+		int soldOrders = 0;
+		for (Future<Order> future : futures) {
+			soldOrders += countSoldOrder(future);
+		}
+		return soldOrders;
+	}
+
+	private int countSoldOrder(Future<Order> future) throws InterruptedException {
+		try {
+			future.get();
+			return 1;
+		} catch (ExecutionException outOfStock) {
+			assertThat(outOfStock.getCause()).isInstanceOf(IllegalStateException.class);
+			return 0;
+		}
+	}
+}
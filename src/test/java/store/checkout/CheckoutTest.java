@@ -0,0 +1,129 @@
+package store.checkout;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.domain.order.OrderItem;
+import store.domain.product.Product;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.domain.promotion.Promotion;
+import store.domain.stock.Stock;
+import store.domain.stock.StockReservation;
+
+class CheckoutTest {
+	private static final int REGISTER_COUNT = 64;
+	private static final int ORDERS_PER_REGISTER = 50;
+
+	private Stock stock;
+	private Checkout checkout;
+
+	@BeforeEach
+	void setUp() {
+		Promotion promotion = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2000-01-01", "2099-12-31"));
+		stock = Stock.from(List.of(
+			Product.of("콜라", 1000, 6, promotion),
+			Product.of("콜라", 1000, 10, null)
+		));
+		checkout = Checkout.of(stock, Membership.create());
+	}
+
+	@DisplayName("프로모션 최대 적용 정책은 증정 상품을 추가하고 멤버십 정책은 멤버십 할인을 적용한다.")
+	@Test
+	void completeMaximizePromotion() {
+		//given
+		StockReservation reservation = stock.reserve(List.of(new OrderItem("콜라", 2)));
+
+		//when
+		Order order = checkout.complete(reservation, FixedDecisionPolicy.from("maximize-promotion,member-always"));
+		stock.release(reservation);
+
+		//then
+		assertThat(order.getTotalQuantity()).isEqualTo(3);
+		assertThat(order.getPromotionDiscount()).isEqualTo(1000);
+		assertThat(order.getMembershipDiscount()).isEqualTo(0);
+		assertThat(order.getFinalAmount()).isEqualTo(2000);
+	}
+
+	@DisplayName("정가 결제 거부 정책은 프로모션 재고가 부족하면 프로모션이 적용되는 수량만 구매한다.")
+	@Test
+	void completeNeverBuyNonDiscounted() {
+		//given
+		StockReservation reservation = stock.reserve(List.of(new OrderItem("콜라", 7)));
+
+		//when
+		Order order = checkout.complete(reservation, FixedDecisionPolicy.from("never-buy-non-discounted"));
+		stock.release(reservation);
+
+		//then
+		assertThat(order.getTotalQuantity()).isEqualTo(6);
+		assertThat(order.getFinalAmount()).isEqualTo(4000);
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(0, 10);
+	}
+
+	@DisplayName("64개의 계산대가 동시에 결제해도 재고보다 많이 판매하지 않는다.")
+	@Test
+	void completeConcurrently() throws InterruptedException {
+		//given
+		Stock sharedStock = Stock.from(List.of(Product.of("물", 500, 700, null)));
+		Checkout sharedCheckout = Checkout.of(sharedStock, Membership.create());
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		//when
+		try (ExecutorService registers = Executors.newFixedThreadPool(REGISTER_COUNT)) {
+			for (int count = 0; count < REGISTER_COUNT * ORDERS_PER_REGISTER; count++) {
+				results.add(registers.submit(() -> completeOrder(sharedStock, sharedCheckout)));
+			}
+		}
+		long soldOrders = countSoldOrders(results);
+
+		//then
+		assertThat(soldOrders).isEqualTo(100);
+		assertThat(sharedStock.getProducts().getFirst().getQuantity()).isEqualTo(0);
+	}
+
+	private boolean completeOrder(Stock sharedStock, Checkout sharedCheckout) {
+		StockReservation reservation;
+		try {
+			reservation = sharedStock.reserve(List.of(new OrderItem("물", 7)));
+		} catch (IllegalStateException outOfStock) {
+			return false;
+		}
+		try {
+			sharedCheckout.complete(reservation, FixedDecisionPolicy.asOrdered());
+			return true;
+		} finally {
+			sharedStock.release(reservation);
+		}
+	}
+
+	private long countSoldOrders(List<Future<Boolean>> results) throws InterruptedException {
+		long soldOrders = 0;
+		for (Future<Boolean> result : results) {
+			soldOrders += countSoldOrder(result);
+		}
+		return soldOrders;
+	}
+
+	private int countSoldOrder(Future<Boolean> result) throws InterruptedException {
+		try {
+			if (result.get()) {
+				return 1;
+			}
+			return 0;
+		} catch (ExecutionException unexpected) {
+			throw new AssertionError(unexpected.getCause());
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package store.checkout;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.validator.checkout.CheckoutValidateMessage;
+
+class FixedDecisionPolicyTest {
+	@DisplayName("쉼표로 나눈 정책 이름을 차례로 적용해 응답 정책을 만든다.")
+	@Test
+	void from() {
+		//given
+		String rules = "maximize-promotion, member-always";
+
+		//when
+		FixedDecisionPolicy policy = FixedDecisionPolicy.from(rules);
+
+		//then
+		assertThat(policy).isEqualTo(new FixedDecisionPolicy("Y", "Y", "Y", "N"));
+		assertThat(FixedDecisionPolicy.from("never-buy-non-discounted").getNonDisCount("콜라", 3)).isEqualTo("N");
+	}
+
+	@DisplayName("알 수 없는 정책 이름이 있다면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void fromUnknownRule() {
+		//given
+		String rules = "maximize-promotion,free-lunch";
+
+		//when & then
+		assertThatThrownBy(() -> FixedDecisionPolicy.from(rules))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(CheckoutValidateMessage.INVALID_DECISION_RULE.getMessage());
+	}
+}
@@ -35,4 +35,18 @@ class MembershipTest {
 		//then
 		assertThat(result).isEqualTo(expect);
 	}
-}
\ No newline at end of file
+
+	@DisplayName("int 범위를 넘는 금액도 long으로 멤버십 할인 금액을 계산한다.")
+	@Test
+	void calculateDiscountPriceLong() {
+		//given
+		Membership membership = Membership.create();
+		long inputNormalPrice = 10_000_000_000L;
+
+		//when
+		long result = membership.calculateDiscountPrice(inputNormalPrice);
+
+		//then
+		assertThat(result).isEqualTo(8000L);
+	}
+}
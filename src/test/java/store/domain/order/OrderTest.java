@@ -159,4 +159,39 @@ class OrderTest {
 		//then
 		assertThat(totalQuantity).isEqualTo(15);
 	}
-}
\ No newline at end of file
+
+	@DisplayName("주문 생성 시 한 번의 순회로 금액 요약을 계산한다.")
+	@Test
+	void getSummary() {
+		//given
+		List<OrderLineItem> orderLineItems = List.of(
+			OrderLineItem.of("콜라", 10, 1000, 3, 0, 1, true),
+			OrderLineItem.of("사이다", 5, 1000, 0, 5, 0, false)
+		);
+		Membership membership = Membership.create();
+		Order order = Order.of(orderLineItems, membership, "Y");
+
+		//when
+		OrderSummary summary = order.getSummary();
+
+		//then
+		assertThat(summary).isEqualTo(new OrderSummary(15, 15000, 1000, 5000, 1500, 12500));
+	}
+
+	@DisplayName("금액 요약은 int 범위를 넘는 금액도 long으로 계산한다.")
+	@Test
+	void getSummaryOverInt() {
+		//given
+		List<OrderLineItem> orderLineItems = List.of(
+			OrderLineItem.of("콜라", 1_000_000, 1_000_000, 0, 1_000_000, 0, false),
+			OrderLineItem.of("사이다", 1_000_000, 1_000_000, 0, 1_000_000, 0, false)
+		);
+
+		//when
+		OrderSummary summary = OrderSummary.of(orderLineItems, Membership.create(), false);
+
+		//then
+		assertThat(summary.totalAmount()).isEqualTo(2_000_000_000_000L);
+		assertThat(summary.finalAmount()).isEqualTo(2_000_000_000_000L);
+	}
+}
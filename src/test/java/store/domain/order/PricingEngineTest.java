@@ -0,0 +1,122 @@
+package store.domain.order;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.membershop.Membership;
+
+class PricingEngineTest {
+	@DisplayName("주문 항목 목록을 받아 금액 요약을 계산한다.")
+	@Test
+	void price() {
+		//given
+		List<OrderLineItem> orderLineItems = List.of(
+			OrderLineItem.of("콜라", 10, 1000, 3, 0, 1, true),
+			OrderLineItem.of("사이다", 5, 1000, 0, 5, 0, false)
+		);
+		PricingEngine pricingEngine = PricingEngine.from(Membership.create());
+
+		//when
+		OrderSummary summary = pricingEngine.price(orderLineItems, true);
+
+		//then
+		assertThat(summary).isEqualTo(new OrderSummary(15, 15000, 1000, 5000, 1500, 12500));
+	}
+
+	@DisplayName("배치로 계산한 금액 요약은 주문 항목 목록으로 계산한 결과와 같다.")
+	@Test
+	void priceBatch() {
+		//given
+		List<OrderLineItem> orderLineItems = List.of(
+			OrderLineItem.of("콜라", 10, 1000, 3, 0, 1, true),
+			OrderLineItem.of("사이다", 5, 1000, 0, 5, 0, false),
+			OrderLineItem.of("물", 3, 500, 0, 3, 0, false)
+		);
+		PricingBatch batch = PricingBatch.withCapacity(1);
+		orderLineItems.forEach(batch::add);
+		PricingEngine pricingEngine = PricingEngine.from(Membership.create());
+
+		//when
+		OrderSummary summary = pricingEngine.price(batch, true);
+
+		//then
+		assertThat(batch.size()).isEqualTo(3);
+		assertThat(summary).isEqualTo(pricingEngine.price(orderLineItems, true));
+	}
+
+	@DisplayName("배치의 주문 항목별 금액을 long 배열에 계산한다.")
+	@Test
+	void lineAmounts() {
+		//given
+		PricingBatch batch = PricingBatch.create();
+		batch.add(3, 1000, 0, 3, false);
+		batch.add(2_000_000, 2_000_000, 0, 2_000_000, false);
+		long[] amounts = new long[batch.size()];
+
+		//when
+		PricingEngine.from(Membership.create()).lineAmounts(batch, amounts);
+
+		//then
+		assertThat(amounts[0]).isEqualTo(3000L);
+		assertThat(amounts[1]).isEqualTo(4_000_000_000_000L);
+	}
+
+	@DisplayName("같은 가격 계산기로 여러 스레드가 동시에 계산해도 서로의 합계가 섞이지 않는다.")
+	@Test
+	void priceConcurrently() throws InterruptedException {
+		//given
+		PricingEngine pricingEngine = PricingEngine.from(Membership.create());
+		List<OrderLineItem> small = List.of(OrderLineItem.of("물", 1, 500, 0, 1, 0, false));
+		List<OrderLineItem> large = List.of(OrderLineItem.of("콜라", 100, 1000, 0, 100, 0, false));
+		AtomicBoolean mixed = new AtomicBoolean();
+		Runnable pricing = () -> {
+			for (int count = 0; count < 10_000; count++) {
+				if (pricingEngine.price(small, false).totalAmount() != 500
+					|| pricingEngine.price(large, false).totalAmount() != 100_000) {
+					mixed.set(true);
+				}
+			}
+		};
+
+		//when
+		Thread first = Thread.ofPlatform().start(pricing);
+		Thread second = Thread.ofPlatform().start(pricing);
+		first.join();
+		second.join();
+
+		//then
+		assertThat(mixed.get()).isFalse();
+	}
+
+	@DisplayName("멤버십 할인 금액은 정수 연산으로 원 단위 미만을 버린다.")
+	@Test
+	void priceMembershipDiscountRoundDown() {
+		//given
+		List<OrderLineItem> orderLineItems = List.of(OrderLineItem.of("물", 1, 1999, 0, 1, 0, false));
+
+		//when
+		OrderSummary summary = PricingEngine.from(Membership.create()).price(orderLineItems, true);
+
+		//then
+		assertThat(summary.membershipDiscount()).isEqualTo(599);
+		assertThat(summary.finalAmount()).isEqualTo(1400);
+	}
+
+	@DisplayName("금액 합계가 long 범위를 넘으면 ArithmeticException 예외가 발생한다.")
+	@Test
+	void priceOverflow() {
+		//given
+		OrderLineItem item = OrderLineItem.of("물", Integer.MAX_VALUE, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 0,
+			false);
+		List<OrderLineItem> orderLineItems = List.of(item, item, item);
+
+		//when & then
+		assertThatThrownBy(() -> PricingEngine.from(Membership.create()).price(orderLineItems, false))
+			.isInstanceOf(ArithmeticException.class);
+	}
+}
@@ -96,4 +96,46 @@ class ProductTest {
 			.isInstanceOf(IllegalArgumentException.class)
 			.hasMessage(ProductValidateMessage.INVALID_MIN_QUANTITY.getMessage());
 	}
-}
\ No newline at end of file
+
+	@DisplayName("재고가 충분하면 수량을 예약하고 차감한다.")
+	@Test
+	void tryReserve() {
+		//given
+		Product product = Product.of("콜라", 1000, 10, null);
+
+		//when
+		boolean result = product.tryReserve(10);
+
+		//then
+		assertThat(result).isTrue();
+		assertThat(product.getQuantity()).isEqualTo(0);
+	}
+
+	@DisplayName("재고가 부족하면 예약에 실패하고 수량이 음수가 되지 않는다.")
+	@Test
+	void tryReserveOutOfStock() {
+		//given
+		Product product = Product.of("콜라", 1000, 3, null);
+
+		//when
+		boolean result = product.tryReserve(4);
+
+		//then
+		assertThat(result).isFalse();
+		assertThat(product.getQuantity()).isEqualTo(3);
+	}
+
+	@DisplayName("예약한 수량을 되돌리면 재고가 복구된다.")
+	@Test
+	void restoreQuantity() {
+		//given
+		Product product = Product.of("콜라", 1000, 3, null);
+		product.tryReserve(2);
+
+		//when
+		product.restoreQuantity(2);
+
+		//then
+		assertThat(product.getQuantity()).isEqualTo(3);
+	}
+}
@@ -1,7 +1,10 @@
 package store.domain.product;
 
+import static camp.nextstep.edu.missionutils.test.Assertions.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -34,21 +37,63 @@ class StockTest {
 			.hasMessage(StockValidateMessage.INVALID_DUPLICATE_PRODUCT.getMessage());
 	}
 
-	@DisplayName("하나의 상품에 두개 이상의 프로모션이 있다면 IllegalArgumentException 예외가 발생한다.")
+	@DisplayName("하나의 상품에 여러 프로모션이 있으면 프로모션 재고를 합친다.")
 	@Test
-	void validateDuplicatePromotion() {
+	void scheduledPromotions() {
 		//given
-		Promotion promotion1 = Promotion.from(
-			new PrimitivePromotionInfo("탄산1+1", 1, 1, "2024-01-01", "2024-12-31")
-		);
+		List<Product> products = createScheduledProducts();
+
+		//when
+		Stock stock = Stock.from(products);
+
+		//then
+		assertThat(stock.getProducts()).extracting(Product::getQuantity)
+			.containsExactly(12, 10);
+	}
+
+	@DisplayName("하나의 상품에 여러 프로모션이 있으면 해당 날짜에 진행 중인 프로모션을 적용한다.")
+	@MethodSource("scheduledPromotionProvider")
+	@ParameterizedTest(name = "{0}")
+	void scheduledPromotionsAt(String description, LocalDate date, String expectedPromotion, boolean expectedValid) {
+		assertNowTest(() -> {
+			//given
+			Stock stock = Stock.from(createScheduledProducts());
+
+			//when
+			Promotion promotion = stock.getProducts().getFirst().getPromotion();
+			boolean valid = stock.isPromotionAndValidPromotion(new OrderItem("콜라", 3));
+
+			//then
+			assertThat(promotion.getName()).isEqualTo(expectedPromotion);
+			assertThat(valid).isEqualTo(expectedValid);
+		}, date.atTime(10, 0));
+	}
 
-		Promotion promotion2 = Promotion.from(
-			new PrimitivePromotionInfo("탄산2+1", 2, 1, "2024-01-01", "2024-12-31")
+	@DisplayName("같은 상품의 프로모션 가격이 서로 다르면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void validateSchedulePrice() {
+		//given
+		List<Product> products = List.of(
+			Product.of(new PrimitiveProductInfo("콜라", 1000, 4, "탄산1+1"),
+				createPromotion("탄산1+1", 1, "2024-01-01", "2024-03-31")),
+			Product.of(new PrimitiveProductInfo("콜라", 1200, 6, "탄산2+1"),
+				createPromotion("탄산2+1", 2, "2024-05-01", "2024-12-31"))
 		);
 
+		//when & then
+		assertThatThrownBy(() -> Stock.from(products))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(StockValidateMessage.INVALID_SCHEDULED_PRICE.getMessage());
+	}
+
+	@DisplayName("하나의 상품에 같은 프로모션이 중복되면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void validateDuplicatePromotion() {
+		//given
+		Promotion promotion = createPromotion("탄산2+1", 2, "2024-01-01", "2024-12-31");
 		List<Product> products = List.of(
-			Product.of(new PrimitiveProductInfo("콜라", 1000, 10, "탄산1+1"), promotion1),
-			Product.of(new PrimitiveProductInfo("콜라", 1000, 10, "탄산2+1"), promotion2)
+			Product.of(new PrimitiveProductInfo("콜라", 1000, 4, "탄산2+1"), promotion),
+			Product.of(new PrimitiveProductInfo("콜라", 1000, 6, "탄산2+1"), promotion)
 		);
 
 		//when & then
@@ -162,6 +207,45 @@ class StockTest {
 		assertThat(promotionProduct.getQuantity()).isEqualTo(4);
 	}
 
+	@DisplayName("품절 버전을 추가해도 상품 목록은 파일 순서를 유지하고 이름으로 일반 상품을 찾는다.")
+	@Test
+	void getProductsKeepsFileOrder() {
+		//given
+		List<Product> products = List.of(
+			Product.of(
+				"오렌지주스", 1800, 9,
+				Promotion.from(new PrimitivePromotionInfo("MD추천상품", 1, 1, "2024-01-01", "2024-12-31"))
+			),
+			Product.of("물", 500, 10, null)
+		);
+		Stock stock = Stock.from(products);
+
+		//when
+		OrderLineItem orderLineItem = stock.getNormalProductInfo(new OrderItem("오렌지주스", 1));
+
+		//then
+		assertThat(stock.getProducts()).extracting(Product::getName)
+			.containsExactly("오렌지주스", "오렌지주스", "물");
+		assertThat(stock.getProducts().get(1).getQuantity()).isEqualTo(0);
+		assertThat(orderLineItem.getUnitPrice()).isEqualTo(1800);
+	}
+
+	@DisplayName("재고 수량이 바뀐 상품의 목록 위치만 알린다.")
+	@Test
+	void onQuantityChanged() {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("콜라", 1000, 10, null), Product.of("물", 500, 10, null)));
+		List<Integer> changedIndexes = new ArrayList<>();
+		stock.onQuantityChanged(changedIndexes::add);
+
+		//when
+		stock.getProducts();
+		stock.deductStocks(List.of(OrderLineItem.of("물", 2, 500, 0, 2, 0, false)));
+
+		//then
+		assertThat(changedIndexes).containsExactly(1);
+	}
+
 	// 프로모션이 없고 일반 재고가 있는 주문
 	private static List<Product> createValidNormalOrderProducts() {
 		return List.of(
@@ -355,4 +439,31 @@ class StockTest {
 			)
 		);
 	}
-}
\ No newline at end of file
+
+	static Stream<Arguments> scheduledPromotionProvider() {
+		return Stream.of(
+			Arguments.of("첫 프로모션 기간", LocalDate.of(2024, 2, 1), "탄산1+1", true),
+			Arguments.of("첫 프로모션의 마지막 날", LocalDate.of(2024, 3, 31), "탄산1+1", true),
+			Arguments.of("진행 중인 프로모션이 없는 날", LocalDate.of(2024, 4, 1), "탄산1+1", false),
+			Arguments.of("두 번째 프로모션의 첫날", LocalDate.of(2024, 5, 1), "탄산2+1", true),
+			Arguments.of("기간이 겹치면 나중에 시작한 프로모션", LocalDate.of(2024, 7, 3), "반짝할인", true),
+			Arguments.of("겹친 프로모션이 끝난 다음 날", LocalDate.of(2024, 7, 8), "탄산2+1", true)
+		);
+	}
+
+	private List<Product> createScheduledProducts() {
+		return List.of(
+			Product.of(new PrimitiveProductInfo("콜라", 1000, 4, "탄산1+1"),
+				createPromotion("탄산1+1", 1, "2024-01-01", "2024-03-31")),
+			Product.of(new PrimitiveProductInfo("콜라", 1000, 6, "탄산2+1"),
+				createPromotion("탄산2+1", 2, "2024-05-01", "2024-12-31")),
+			Product.of(new PrimitiveProductInfo("콜라", 1000, 2, "반짝할인"),
+				createPromotion("반짝할인", 1, "2024-07-01", "2024-07-07")),
+			Product.of(new PrimitiveProductInfo("콜라", 1000, 10, "null"), null)
+		);
+	}
+
+	private Promotion createPromotion(String name, int buy, String startDate, String endDate) {
+		return Promotion.from(new PrimitivePromotionInfo(name, buy, 1, startDate, endDate));
+	}
+}
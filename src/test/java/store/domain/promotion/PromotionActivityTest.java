@@ -0,0 +1,99 @@
+package store.domain.promotion;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PromotionActivityTest {
+	@DisplayName("영업일 기준으로 진행 중인 프로모션인지 확인한다.")
+	@Test
+	void isActive() {
+		//given
+		Promotion active = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2024-01-01", "2024-12-31"));
+		Promotion ended = Promotion.from(new PrimitivePromotionInfo("반짝할인", 1, 1, "2024-01-01", "2024-01-31"));
+		PromotionActivity promotionActivity = PromotionActivity.of(List.of(active, ended),
+			() -> LocalDateTime.of(2024, 6, 1, 10, 0), System::nanoTime);
+
+		//when & then
+		assertThat(promotionActivity.isActive(active)).isTrue();
+		assertThat(promotionActivity.isActive(ended)).isFalse();
+	}
+
+	@DisplayName("자정이 지나기 전까지는 시간을 다시 읽지 않는다.")
+	@Test
+	void isActiveWithoutReadingClock() {
+		//given
+		Promotion promotion = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2024-01-01", "2024-12-31"));
+		AtomicInteger clockReads = new AtomicInteger();
+		PromotionActivity promotionActivity = PromotionActivity.of(List.of(promotion), () -> {
+			clockReads.incrementAndGet();
+			return LocalDateTime.of(2024, 6, 1, 10, 0);
+		}, System::nanoTime);
+
+		//when
+		for (int count = 0; count < 1000; count++) {
+			promotionActivity.isActive(promotion);
+		}
+
+		//then
+		assertThat(clockReads.get()).isEqualTo(1);
+	}
+
+	@DisplayName("자정이 지나면 진행 중인 프로모션을 다시 계산한다.")
+	@Test
+	void refreshAtMidnight() {
+		//given
+		Promotion promotion = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2024-06-02", "2024-12-31"));
+		AtomicReference<LocalDateTime> now = new AtomicReference<>(LocalDateTime.of(2024, 6, 1, 23, 59));
+		AtomicLong nanoTime = new AtomicLong();
+		PromotionActivity promotionActivity = PromotionActivity.of(List.of(promotion), now::get, nanoTime::get);
+		boolean beforeMidnight = promotionActivity.isActive(promotion);
+
+		//when
+		now.set(LocalDateTime.of(2024, 6, 2, 0, 0));
+		nanoTime.addAndGet(Duration.ofMinutes(1).toNanos());
+
+		//then
+		assertThat(beforeMidnight).isFalse();
+		assertThat(promotionActivity.isActive(promotion)).isTrue();
+	}
+
+	@DisplayName("상품별로 진행 중인 프로모션을 영업일마다 한 번만 찾는다.")
+	@Test
+	void findScheduled() {
+		//given
+		Promotion spring = Promotion.from(new PrimitivePromotionInfo("탄산1+1", 1, 1, "2024-01-01", "2024-06-01"));
+		Promotion summer = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2024-06-02", "2024-12-31"));
+		PromotionCalendar calendar = PromotionCalendar.of(Map.of("콜라", List.of(spring, summer)));
+		AtomicReference<LocalDateTime> now = new AtomicReference<>(LocalDateTime.of(2024, 6, 1, 23, 59));
+		AtomicLong nanoTime = new AtomicLong();
+		AtomicInteger clockReads = new AtomicInteger();
+		PromotionActivity promotionActivity = PromotionActivity.of(List.of(spring, summer), calendar, () -> {
+			clockReads.incrementAndGet();
+			return now.get();
+		}, nanoTime::get);
+		for (int count = 0; count < 1000; count++) {
+			promotionActivity.findScheduled("콜라", spring);
+		}
+		Promotion beforeMidnight = promotionActivity.findScheduled("콜라", spring);
+
+		//when
+		now.set(LocalDateTime.of(2024, 6, 2, 0, 0));
+		nanoTime.addAndGet(Duration.ofMinutes(1).toNanos());
+
+		//then
+		assertThat(beforeMidnight).isEqualTo(spring);
+		assertThat(promotionActivity.findScheduled("콜라", spring)).isEqualTo(summer);
+		assertThat(promotionActivity.findScheduled("사이다", spring)).isEqualTo(spring);
+		assertThat(clockReads.get()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,85 @@
+package store.domain.promotion;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PromotionCalendarTest {
+	private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+	@DisplayName("상품과 시점을 받아 그 시점에 진행 중인 프로모션을 반환한다.")
+	@Test
+	void findActive() {
+		//given
+		Promotion winter = createPromotion("겨울할인", "2024-01-01", "2024-02-29");
+		Promotion summer = createPromotion("여름할인", "2024-06-01", "2024-08-31");
+		PromotionCalendar promotionCalendar = PromotionCalendar.of(Map.of("콜라", List.of(summer, winter)));
+
+		//when & then
+		assertThat(promotionCalendar.findActive("콜라", LocalDateTime.of(2024, 2, 29, 23, 59))).isEqualTo(winter);
+		assertThat(promotionCalendar.findActive("콜라", LocalDate.of(2024, 6, 1))).isEqualTo(summer);
+		assertThat(promotionCalendar.findActive("콜라", LocalDate.of(2024, 4, 1))).isNull();
+		assertThat(promotionCalendar.findActive("사이다", LocalDate.of(2024, 6, 1))).isNull();
+	}
+
+	@DisplayName("기간이 겹치면 가장 늦게 시작한 프로모션을 반환한다.")
+	@Test
+	void findActiveOverlapping() {
+		//given
+		Promotion yearly = createPromotion("연간할인", "2024-01-01", "2024-12-31");
+		Promotion flash = createPromotion("반짝할인", "2024-03-01", "2024-03-03");
+		PromotionCalendar promotionCalendar = PromotionCalendar.of(Map.of("콜라", List.of(yearly, flash)));
+
+		//when & then
+		assertThat(promotionCalendar.findActive("콜라", LocalDate.of(2024, 3, 2))).isEqualTo(flash);
+		assertThat(promotionCalendar.findActive("콜라", LocalDate.of(2024, 3, 4))).isEqualTo(yearly);
+	}
+
+	@DisplayName("한 상품에 수천 개의 프로모션이 있어도 모든 날짜에서 전체 탐색과 같은 결과를 반환한다.")
+	@Test
+	void findActiveWithThousandsOfPromotions() {
+		//given
+		Random random = new Random(7);
+		List<Promotion> promotions = new ArrayList<>();
+		for (int count = 0; count < 3000; count++) {
+			LocalDate startDate = BASE_DATE.plusDays(random.nextInt(3000));
+			promotions.add(createPromotion("할인" + count, startDate.toString(),
+				startDate.plusDays(random.nextInt(30)).toString()));
+		}
+		PromotionCalendar promotionCalendar = PromotionCalendar.of(Map.of("콜라", promotions));
+
+		//when & then
+		for (int day = 0; day < 3100; day++) {
+			LocalDate date = BASE_DATE.plusDays(day);
+			assertThat(promotionCalendar.findActive("콜라", date)).isEqualTo(findLatestStarted(promotions, date));
+		}
+	}
+
+	private Promotion findLatestStarted(List<Promotion> promotions, LocalDate date) {
+		Comparator<Promotion> startOrder = Comparator.comparing(Promotion::getStartDate)
+			.thenComparing(Promotion::getEndDate);
+		return promotions.stream()
+			.filter(promotion -> promotion.isValidPromotion(date))
+			.reduce(null, (latest, promotion) -> latestOf(startOrder, latest, promotion));
+	}
+
+	private Promotion latestOf(Comparator<Promotion> startOrder, Promotion latest, Promotion promotion) {
+		if (latest == null || startOrder.compare(promotion, latest) >= 0) {
+			return promotion;
+		}
+		return latest;
+	}
+
+	private Promotion createPromotion(String name, String startDate, String endDate) {
+		return Promotion.from(new PrimitivePromotionInfo(name, 1, 1, startDate, endDate));
+	}
+}
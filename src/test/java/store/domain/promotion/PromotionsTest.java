@@ -7,6 +7,8 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import store.validator.promotion.PromotionValidateMessage;
+
 class PromotionsTest {
 	@DisplayName("원시 프로모션 목록을 받아 프로모션 목록을 성공적으로 생성한다.")
 	@Test
@@ -63,4 +65,19 @@ class PromotionsTest {
 		//then
 		assertThat(result).isNull();
 	}
-}
\ No newline at end of file
+
+	@DisplayName("중복된 이름의 프로모션이 있다면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void fromDuplicateName() {
+		//given
+		List<PrimitivePromotionInfo> infos = List.of(
+			new PrimitivePromotionInfo("탄산1+1", 1, 1, "2024-01-01", "2024-12-31"),
+			new PrimitivePromotionInfo("탄산1+1", 2, 1, "2024-11-01", "2024-12-31")
+		);
+
+		//when & then
+		assertThatThrownBy(() -> Promotions.from(infos))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(PromotionValidateMessage.INVALID_DUPLICATE_NAME.getMessage());
+	}
+}
@@ -0,0 +1,175 @@
+package store.domain.stock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.product.Product;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.domain.promotion.Promotion;
+import store.validator.stock.StockValidateMessage;
+
+class StockCatalogQueryTest {
+	private static final Promotion ACTIVE_PROMOTION = Promotion.from(
+		new PrimitivePromotionInfo("탄산2+1", 2, 1, "2000-01-01", "2099-12-31"));
+	private static final Promotion EXPIRED_PROMOTION = Promotion.from(
+		new PrimitivePromotionInfo("반짝할인", 1, 1, "2000-01-01", "2000-12-31"));
+
+	@DisplayName("상품 이름 순으로 페이지를 나누고, 커서로 다음 페이지를 조회한다.")
+	@Test
+	void queryPages() {
+		//given
+		Stock stock = createStock();
+		CatalogQuery query = CatalogQuery.firstPage(2);
+
+		//when
+		CatalogPage first = stock.query(query);
+		CatalogPage second = stock.query(query.after(first.nextCursor()));
+		CatalogPage third = stock.query(query.after(second.nextCursor()));
+
+		//then
+		assertThat(first.products()).extracting(Product::getName).containsExactly("사이다", "사이다", "콜라", "콜라");
+		assertThat(second.products()).extracting(Product::getName).containsExactly("콜라맛젤리", "탄산수");
+		assertThat(third.products()).extracting(Product::getName).containsExactly("환타");
+		assertThat(third.hasNext()).isFalse();
+	}
+
+	@DisplayName("이름의 접두사와 부분 문자열로 상품을 검색한다.")
+	@Test
+	void queryKeyword() {
+		//given
+		Stock stock = createStock();
+
+		//when
+		CatalogPage prefixPage = stock.query(CatalogQuery.firstPage(10).withPrefix("콜라"));
+		CatalogPage substringPage = stock.query(CatalogQuery.firstPage(10).containing("산"));
+
+		//then
+		assertThat(prefixPage.products()).extracting(Product::getName).containsExactly("콜라", "콜라", "콜라맛젤리");
+		assertThat(substringPage.products()).extracting(Product::getName).containsExactly("탄산수");
+	}
+
+	@DisplayName("진행 중인 프로모션 상품과 재고가 있는 상품만 조회한다.")
+	@Test
+	void queryFilters() {
+		//given
+		Stock stock = createStock();
+
+		//when
+		CatalogPage promotionPage = stock.query(CatalogQuery.firstPage(10).inPromotion());
+		CatalogPage inStockPage = stock.query(CatalogQuery.firstPage(10).inStock());
+
+		//then
+		assertThat(promotionPage.products()).extracting(Product::getName).containsExactly("콜라", "콜라");
+		assertThat(inStockPage.products()).extracting(Product::getName)
+			.containsExactly("사이다", "사이다", "콜라", "콜라", "탄산수", "환타");
+	}
+
+	@DisplayName("페이지 크기가 1보다 작다면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void queryInvalidPageSize() {
+		//when & then
+		assertThatThrownBy(() -> CatalogQuery.firstPage(0))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(StockValidateMessage.INVALID_PAGE_SIZE.getMessage());
+	}
+
+	@DisplayName("부분 문자열 검색을 커서로 끝까지 조회하면 모든 이름을 비교한 결과와 같다.")
+	@Test
+	void querySubstringMatchesScan() {
+		//given
+		Random random = new Random(19);
+		List<Product> products = IntStream.range(0, 300)
+			.mapToObj(index -> randomName(random) + index)
+			.map(name -> Product.of(name, 1000, random.nextInt(3), null))
+			.toList();
+		Stock stock = Stock.from(products);
+
+		//when
+		List<String> found = queryAll(stock, CatalogQuery.firstPage(7).containing("ab"));
+
+		//then
+		List<String> expected = products.stream()
+			.map(Product::getName)
+			.filter(name -> name.contains("ab"))
+			.sorted()
+			.toList();
+		assertThat(found).isEqualTo(expected);
+	}
+
+	@DisplayName("드물거나 흔한 부분 문자열 모두 커서로 끝까지 조회하면 모든 이름을 비교한 결과와 같다.")
+	@Test
+	void querySubstringMatchesScanForAnyDensity() {
+		//given
+		Random random = new Random(23);
+		List<Product> products = IntStream.range(0, 500)
+			.mapToObj(index -> randomName(random) + index)
+			.map(name -> Product.of(name, 1000, 1, null))
+			.toList();
+		Stock stock = Stock.from(products);
+
+		for (String keyword : List.of("a", "cab", "abca", "499", "7", "zzz")) {
+			//when
+			List<String> found = queryAll(stock, CatalogQuery.firstPage(3).containing(keyword));
+
+			//then
+			List<String> expected = products.stream()
+				.map(Product::getName)
+				.filter(name -> name.contains(keyword))
+				.sorted()
+				.toList();
+			assertThat(found).isEqualTo(expected);
+		}
+	}
+
+	@DisplayName("빈 부분 문자열로 검색하면 접미사를 훑지 않고 이름 순으로 모든 상품을 조회한다.")
+	@Test
+	void queryEmptySubstring() {
+		//given
+		Stock stock = createStock();
+
+		//when
+		CatalogPage page = stock.query(CatalogQuery.firstPage(2).containing(""));
+
+		//then
+		assertThat(page.products()).extracting(Product::getName).containsExactly("사이다", "사이다", "콜라", "콜라");
+		assertThat(page.nextCursor()).isEqualTo("콜라");
+	}
+
+	private List<String> queryAll(Stock stock, CatalogQuery query) {
+		List<String> names = new ArrayList<>();
+		CatalogPage page = stock.query(query);
+		page.products().forEach(product -> names.add(product.getName()));
+		while (page.hasNext()) {
+			page = stock.query(query.after(page.nextCursor()));
+			page.products().forEach(product -> names.add(product.getName()));
+		}
+		return names;
+	}
+
+	private String randomName(Random random) {
+		StringBuilder name = new StringBuilder();
+		for (int index = 0; index < 4; index++) {
+			name.append((char)('a' + random.nextInt(3)));
+		}
+		return name.toString();
+	}
+
+	private Stock createStock() {
+		return Stock.from(List.of(
+			Product.of("콜라", 1000, 10, ACTIVE_PROMOTION),
+			Product.of("콜라", 1000, 10, null),
+			Product.of("사이다", 1000, 8, EXPIRED_PROMOTION),
+			Product.of("사이다", 1000, 7, null),
+			Product.of("콜라맛젤리", 1500, 0, null),
+			Product.of("탄산수", 1200, 5, null),
+			Product.of("환타", 1000, 3, null)
+		));
+	}
+}
@@ -0,0 +1,114 @@
+package store.domain.stock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.order.OrderItem;
+import store.domain.order.OrderLineItem;
+import store.domain.product.Product;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.domain.promotion.Promotion;
+import store.validator.stock.StockValidateMessage;
+
+class StockReservationTest {
+	@DisplayName("주문 항목의 수량만큼 재고를 예약한다.")
+	@Test
+	void reserve() {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("물", 500, 10, null)));
+
+		//when
+		StockReservation reservation = stock.reserve(List.of(new OrderItem("물", 3)));
+
+		//then
+		assertThat(reservation.getOrderItems()).containsExactly(new OrderItem("물", 3));
+		assertThat(stock.getProducts().getFirst().getQuantity()).isEqualTo(7);
+	}
+
+	@DisplayName("예약할 재고가 부족하면 IllegalStateException 예외가 발생하고 먼저 예약한 재고를 되돌린다.")
+	@Test
+	void reserveOutOfStock() {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("콜라", 1000, 10, null), Product.of("물", 500, 10, null)));
+		List<OrderItem> orderItems = List.of(new OrderItem("콜라", 3), new OrderItem("물", 11));
+
+		//when & then
+		assertThatThrownBy(() -> stock.reserve(orderItems))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(StockValidateMessage.INVALID_ORDER_OUT_OF_STOCK.getMessage());
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(10, 10);
+	}
+
+	@DisplayName("프로모션 재고를 먼저 예약하고 부족한 수량은 일반 재고에서 예약한다.")
+	@Test
+	void reservePromotionFirst() {
+		//given
+		Promotion promotion = Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2000-01-01", "2099-12-31"));
+		Stock stock = Stock.from(List.of(Product.of("콜라", 1000, 5, promotion), Product.of("콜라", 1000, 10, null)));
+		OrderItem orderItem = new OrderItem("콜라", 7);
+
+		//when
+		StockReservation reservation = stock.reserve(List.of(orderItem));
+
+		//then
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(0, 8);
+		assertThat(stock.isPromotionAndValidPromotion(orderItem, reservation)).isTrue();
+		assertThat(stock.getPromotionOrderStatus(orderItem, reservation).promotionQuantity()).isEqualTo(5);
+	}
+
+	@DisplayName("확정한 주문 항목과 예약 수량의 차이만큼 재고를 되돌리거나 추가로 차감한다.")
+	@Test
+	void commit() {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("콜라", 1000, 10, null), Product.of("물", 500, 10, null)));
+		StockReservation reservation = stock.reserve(List.of(new OrderItem("콜라", 3), new OrderItem("물", 3)));
+
+		//when
+		stock.commit(reservation, List.of(OrderLineItem.ofNormal("콜라", 1, 1000), OrderLineItem.ofNormal("물", 5, 500)));
+		stock.release(reservation);
+
+		//then
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(9, 5);
+	}
+
+	@DisplayName("예약을 취소하면 예약한 재고를 되돌린다.")
+	@Test
+	void release() {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("물", 500, 10, null)));
+		StockReservation reservation = stock.reserve(List.of(new OrderItem("물", 4)));
+
+		//when
+		stock.release(reservation);
+		stock.release(reservation);
+
+		//then
+		assertThat(reservation.isSettled()).isTrue();
+		assertThat(stock.getProducts().getFirst().getQuantity()).isEqualTo(10);
+	}
+
+	@DisplayName("유효 시간이 지난 예약을 회수하고, 회수된 예약을 확정하면 재고를 다시 차감한다.")
+	@Test
+	void releaseExpiredReservations() {
+		//given
+		Stock stock = Stock.from(List.of(Product.of("물", 500, 10, null)));
+		StockReservation expired = stock.reserve(List.of(new OrderItem("물", 4)), Duration.ZERO);
+		stock.reserve(List.of(new OrderItem("물", 1)), Duration.ofMinutes(5));
+
+		//when
+		int releasedCount = stock.releaseExpiredReservations(Instant.now().plusSeconds(1));
+		int quantityAfterRelease = stock.getProducts().getFirst().getQuantity();
+		stock.commit(expired, List.of(OrderLineItem.ofNormal("물", 4, 500)));
+
+		//then
+		assertThat(releasedCount).isEqualTo(1);
+		assertThat(quantityAfterRelease).isEqualTo(9);
+		assertThat(stock.getProducts().getFirst().getQuantity()).isEqualTo(5);
+	}
+}
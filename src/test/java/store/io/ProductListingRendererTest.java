@@ -0,0 +1,117 @@
+package store.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.order.OrderLineItem;
+import store.domain.product.Product;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.domain.promotion.Promotion;
+import store.domain.stock.Stock;
+
+class ProductListingRendererTest {
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	@DisplayName("재고의 상품 목록을 한 줄씩 렌더링한다.")
+	@Test
+	void render() {
+		//given
+		Stock stock = createStock();
+
+		//when
+		String listing = ProductListingRenderer.of(stock).render();
+
+		//then
+		assertThat(listing).isEqualTo("- 콜라 1,000원 10개 탄산2+1" + LINE_SEPARATOR
+			+ "- 콜라 1,000원 재고 없음" + LINE_SEPARATOR
+			+ "- 물 500원 10개" + LINE_SEPARATOR);
+	}
+
+	@DisplayName("재고가 바뀌지 않았다면 이전에 렌더링한 목록을 그대로 반환한다.")
+	@Test
+	void renderCached() {
+		//given
+		Stock stock = createStock();
+		ProductListingRenderer renderer = ProductListingRenderer.of(stock);
+		String first = renderer.render();
+
+		//when
+		String second = renderer.render();
+
+		//then
+		assertThat(second).isSameAs(first);
+	}
+
+	@DisplayName("재고가 차감되면 수량이 바뀐 상품의 줄만 다시 렌더링한다.")
+	@Test
+	void renderChanged() {
+		//given
+		Stock stock = createStock();
+		ProductListingRenderer renderer = ProductListingRenderer.of(stock);
+		renderer.render();
+
+		//when
+		stock.deductStocks(List.of(OrderLineItem.of("물", 10, 500, 0, 10, 0, false)));
+		String listing = renderer.render();
+
+		//then
+		assertThat(listing).isEqualTo("- 콜라 1,000원 10개 탄산2+1" + LINE_SEPARATOR
+			+ "- 콜라 1,000원 재고 없음" + LINE_SEPARATOR
+			+ "- 물 500원 재고 없음" + LINE_SEPARATOR);
+	}
+
+	@DisplayName("가운데 상품의 줄 길이가 바뀌어도 뒤의 줄을 밀어 목록을 그대로 이어 붙인다.")
+	@Test
+	void renderChangedMiddleLine() {
+		//given
+		Stock stock = createStock();
+		ProductListingRenderer renderer = ProductListingRenderer.of(stock);
+		renderer.render();
+
+		//when
+		stock.deductStocks(List.of(OrderLineItem.of("콜라", 6, 1000, 6, 0, 2, true)));
+		stock.deductStocks(List.of(OrderLineItem.of("콜라", 4, 1000, 4, 0, 1, true)));
+		String listing = renderer.render();
+
+		//then
+		assertThat(listing).isEqualTo("- 콜라 1,000원 재고 없음 탄산2+1" + LINE_SEPARATOR
+			+ "- 콜라 1,000원 재고 없음" + LINE_SEPARATOR
+			+ "- 물 500원 10개" + LINE_SEPARATOR);
+	}
+
+	@DisplayName("여러 세션이 하나의 렌더러를 동시에 공유해도 최신 재고 목록을 렌더링한다.")
+	@Test
+	void renderShared() throws InterruptedException {
+		//given
+		Stock stock = createStock();
+		ProductListingRenderer renderer = ProductListingRenderer.of(stock);
+		List<Thread> sessions = new ArrayList<>();
+
+		//when
+		for (int session = 0; session < 10; session++) {
+			sessions.add(Thread.ofVirtual().start(() -> {
+				stock.deductStocks(List.of(OrderLineItem.of("물", 1, 500, 0, 1, 0, false)));
+				renderer.render();
+			}));
+		}
+		for (Thread session : sessions) {
+			session.join();
+		}
+
+		//then
+		assertThat(renderer.render()).isEqualTo(ProductListingRenderer.of(stock).render());
+	}
+
+	private Stock createStock() {
+		return Stock.from(List.of(
+			Product.of("콜라", 1000, 10,
+				Promotion.from(new PrimitivePromotionInfo("탄산2+1", 2, 1, "2000-01-01", "2099-12-31"))),
+			Product.of("물", 500, 10, null)
+		));
+	}
+}
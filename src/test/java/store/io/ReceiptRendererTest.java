@@ -0,0 +1,60 @@
+package store.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.domain.order.OrderLineItem;
+
+class ReceiptRendererTest {
+	@DisplayName("주문을 받아 영수증 전체를 하나의 문자열로 렌더링한다.")
+	@Test
+	void render() {
+		//given
+		Order order = Order.of(List.of(
+			OrderLineItem.of("콜라", 3, 1000, 3, 0, 1, true),
+			OrderLineItem.of("에너지바", 5, 2000, 0, 5, 0, false)
+		), Membership.create(), "Y");
+		String expected = String.format("\n==============W 편의점================%n"
+			+ "상품명\t\t수량\t금액%n"
+			+ "콜라\t\t3\t3,000%n"
+			+ "에너지바\t\t5\t10,000%n"
+			+ "=============증\t정===============%n"
+			+ "콜라\t\t1%n"
+			+ "====================================%n"
+			+ "총구매액\t\t8\t13,000%n"
+			+ "행사할인\t\t\t-1,000%n"
+			+ "멤버십할인\t\t\t-3,000%n"
+			+ "내실돈\t\t\t9,000%n");
+
+		//when
+		String receipt = ReceiptRenderer.create().render(order).toString();
+
+		//then
+		assertThat(receipt).isEqualTo(expected);
+	}
+
+	@DisplayName("금액을 세 자리마다 콤마로 구분하고, 같은 렌더러를 재사용해도 이전 영수증이 남지 않는다.")
+	@Test
+	void renderGroupedAndReused() {
+		//given
+		ReceiptRenderer renderer = ReceiptRenderer.create();
+		Order largeOrder = Order.of(List.of(OrderLineItem.of("물", 1000, 1_234_567, 0, 1000, 0, false)),
+			Membership.create(), "N");
+		Order smallOrder = Order.of(List.of(OrderLineItem.of("물", 1, 100, 0, 1, 0, false)),
+			Membership.create(), "N");
+
+		//when
+		String largeReceipt = renderer.render(largeOrder).toString();
+		String smallReceipt = renderer.render(smallOrder).toString();
+
+		//then
+		assertThat(largeReceipt).contains("물\t\t1000\t1,234,567,000");
+		assertThat(smallReceipt).contains("물\t\t1\t100").doesNotContain("1,234,567,000");
+	}
+}
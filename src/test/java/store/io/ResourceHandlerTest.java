@@ -2,16 +2,24 @@ package store.io;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import store.domain.product.PrimitiveProductInfo;
 import store.domain.promotion.PrimitivePromotionInfo;
 import store.validator.file.FileValidationMessage;
 
 class ResourceHandlerTest {
+	@TempDir
+	Path directory;
+
 	@DisplayName("상품 파일을 읽어 원시 상품 정보를 반환한다.")
 	@Test
 	void readProductFrom() {
@@ -31,6 +39,20 @@ class ResourceHandlerTest {
 		assertThat(result).containsExactlyElementsOf(expect);
 	}
 
+	@DisplayName("상품 파일을 한 줄씩 읽어 원시 상품 정보를 순서대로 전달한다.")
+	@Test
+	void readProductFromConsumer() {
+		//given
+		ResourceHandler resourceHandler = ResourceHandler.getInstance();
+		List<PrimitiveProductInfo> result = new ArrayList<>();
+
+		//when
+		resourceHandler.readProductFrom("/validProducts.md", result::add);
+
+		//then
+		assertThat(result).extracting(PrimitiveProductInfo::quantity).containsExactly(10, 10, 8, 7);
+	}
+
 	@DisplayName("상품 파일이 없다면 IllegalArgumentException 예외가 발생한다.")
 	@Test
 	void readProductFromNotExist() {
@@ -94,4 +116,48 @@ class ResourceHandlerTest {
 			.isInstanceOf(IllegalArgumentException.class)
 			.hasMessage(FileValidationMessage.INVALID_EMPTY.getMessage());
 	}
-}
\ No newline at end of file
+
+	@DisplayName("파일 경로의 상품 파일을 메모리 매핑으로 읽어 원시 상품 정보를 반환한다.")
+	@Test
+	void readProductFromPath() throws IOException {
+		//given
+		ResourceHandler resourceHandler = ResourceHandler.getInstance();
+		Path path = directory.resolve("products.md");
+		Files.writeString(path, "name,price,quantity,promotion\r\n콜라,1000,10,탄산2+1\r\n사이다,1000,7,null");
+		List<PrimitiveProductInfo> expect = List.of(
+			new PrimitiveProductInfo("콜라", 1000, 10, "탄산2+1"),
+			new PrimitiveProductInfo("사이다", 1000, 7, "null")
+		);
+
+		//when
+		List<PrimitiveProductInfo> result = resourceHandler.readProductFrom(path);
+
+		//then
+		assertThat(result).containsExactlyElementsOf(expect);
+	}
+
+	@DisplayName("파일 경로에 상품 파일이 없다면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void readProductFromPathNotExist() {
+		//given
+		ResourceHandler resourceHandler = ResourceHandler.getInstance();
+
+		//when & then
+		assertThatThrownBy(() -> resourceHandler.readProductFrom(directory.resolve("products123.md")))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(FileValidationMessage.INVALID_NOT_FOUND.getMessage());
+	}
+
+	@DisplayName("파일 경로의 프로모션 파일이 비어있다면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void readPromotionFromPathEmpty() throws IOException {
+		//given
+		ResourceHandler resourceHandler = ResourceHandler.getInstance();
+		Path path = Files.createFile(directory.resolve("promotions.md"));
+
+		//when & then
+		assertThatThrownBy(() -> resourceHandler.readPromotionFrom(path))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(FileValidationMessage.INVALID_EMPTY.getMessage());
+	}
+}
@@ -0,0 +1,81 @@
+package store.io.batch;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import store.batch.BatchEntry;
+import store.batch.BatchFailure;
+import store.batch.BatchOrder;
+import store.domain.order.OrderItem;
+import store.validator.file.FileValidationMessage;
+
+class BatchOrderReaderTest {
+	@TempDir
+	Path directory;
+
+	@DisplayName("주문 파일을 정해진 크기의 묶음으로 나누어 읽는다.")
+	@Test
+	void readChunk() throws IOException {
+		//given
+		Path ordersPath = Files.writeString(directory.resolve("orders.txt"),
+			"[콜라-1]|Y|N|Y|Y\r\n[물-2],[사이다-1]|N|N|N|Y\n\n[콜라-3]|N|Y|N|N\n");
+		BatchOrderReader reader = BatchOrderReader.open(ordersPath);
+
+		//when
+		List<BatchEntry> first = reader.readChunk(2);
+		List<BatchEntry> second = reader.readChunk(2);
+		List<BatchEntry> last = reader.readChunk(2);
+
+		//then
+		assertThat(first).hasSize(2);
+		assertThat(second).hasSize(1);
+		assertThat(last).isEmpty();
+		BatchOrder order = (BatchOrder)second.getFirst();
+		assertThat(order.lineNumber()).isEqualTo(4);
+		assertThat(order.orderItems()).containsExactly(new OrderItem("콜라", 3));
+		assertThat(order.decisionPolicy().getNonDisCount("콜라", 1)).isEqualTo("Y");
+		assertThat(order.decisionPolicy().getContinue()).isEqualTo("N");
+	}
+
+	@DisplayName("응답 칸의 개수가 맞지 않는 줄은 실패로 읽는다.")
+	@Test
+	void readChunkInvalidFieldCount() throws IOException {
+		//given
+		Path ordersPath = Files.writeString(directory.resolve("orders.txt"), "[콜라-1]|Y|N|Y\n");
+		BatchOrderReader reader = BatchOrderReader.open(ordersPath);
+
+		//when
+		List<BatchEntry> chunk = reader.readChunk(10);
+
+		//then
+		assertThat(chunk).containsExactly(
+			new BatchFailure(1, FileValidationMessage.INVALID_BATCH_ORDER_FORMAT.getMessage()));
+	}
+
+	@DisplayName("읽는 도중 예상하지 못한 예외가 나도 실패를 남기고 마지막 빈 묶음을 넣는다.")
+	@Test
+	void readChunksUnexpectedFailure() throws IOException, InterruptedException {
+		//given
+		Path ordersPath = Files.writeString(directory.resolve("orders.txt"), "[콜라-1]|Y|N|Y|Y\n");
+		BatchOrderReader reader = BatchOrderReader.open(ordersPath);
+		BlockingQueue<List<BatchEntry>> chunks = new ArrayBlockingQueue<>(4);
+
+		//when
+		reader.readChunks(-1, chunks);
+
+		//then
+		assertThat(chunks.take()).containsExactly(
+			new BatchFailure(0, FileValidationMessage.INVALID_UNREADABLE.getMessage()));
+		assertThat(chunks.take()).isEmpty();
+	}
+}
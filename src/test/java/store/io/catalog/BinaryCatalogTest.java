@@ -0,0 +1,121 @@
+package store.io.catalog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import store.domain.product.PrimitiveProductInfo;
+import store.domain.product.Product;
+import store.domain.promotion.PrimitivePromotionInfo;
+import store.validator.file.FileValidationMessage;
+import store.validator.promotion.PromotionValidateMessage;
+
+class BinaryCatalogTest {
+	@TempDir
+	Path directory;
+
+	@DisplayName("바이너리 카탈로그로 변환한 뒤 불러오면 프로모션과 재고를 그대로 생성한다.")
+	@Test
+	void writeAndLoad() throws IOException {
+		//given
+		Path path = directory.resolve("catalog.bin");
+		List<PrimitivePromotionInfo> promotions = List.of(
+			new PrimitivePromotionInfo("탄산2+1", 2, 1, "2000-01-01", "2099-12-31"));
+		List<PrimitiveProductInfo> products = List.of(
+			new PrimitiveProductInfo("콜라", 1000, 10, "탄산2+1"),
+			new PrimitiveProductInfo("사이다", 1000, 8, "탄산2+1"),
+			new PrimitiveProductInfo("물", 500, 7, "null"));
+
+		//when
+		BinaryCatalogWriter.write(path, products, promotions);
+		StoreCatalog catalog = BinaryCatalogLoader.load(path);
+
+		//then
+		assertThat(catalog.stock().getProducts()).extracting(Product::getName)
+			.containsExactly("콜라", "콜라", "사이다", "사이다", "물");
+		assertThat(catalog.stock().getProducts()).extracting(Product::getQuantity)
+			.containsExactly(10, 0, 8, 0, 7);
+		assertThat(catalog.stock().getProducts().getFirst().getPromotion())
+			.isEqualTo(catalog.promotions().findByName("탄산2+1"));
+		assertThat(catalog.stock().getProducts().getLast().hasPromotion()).isFalse();
+	}
+
+	@DisplayName("마크다운 파일을 바이너리 카탈로그로 변환한다.")
+	@Test
+	void convert() throws IOException {
+		//given
+		Files.writeString(directory.resolve("products.md"), "name,price,quantity,promotion\n물,500,10,null\n");
+		Files.writeString(directory.resolve("promotions.md"), "name,buy,get,start_date,end_date\n");
+		Path path = directory.resolve("catalog.bin");
+
+		//when
+		CatalogConverter.convert(directory, path);
+
+		//then
+		assertThat(BinaryCatalogLoader.load(path).stock().getProducts()).extracting(Product::getQuantity)
+			.containsExactly(10);
+	}
+
+	@DisplayName("변환 도구에 인자가 부족하면 사용법을 출력하고 변환하지 않는다.")
+	@Test
+	void convertWithoutArguments() throws IOException {
+		//given
+		PrintStream standardOutput = System.out;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+
+		//when
+		try {
+			CatalogConverter.main(new String[] {directory.toString()});
+		} finally {
+			System.setOut(standardOutput);
+		}
+
+		//then
+		assertThat(output.toString(StandardCharsets.UTF_8)).contains("사용법");
+		assertThat(directory.toFile().list()).isEmpty();
+	}
+
+	@DisplayName("손상된 바이너리 카탈로그라면 IllegalArgumentException 예외가 발생한다.")
+	@Test
+	void loadCorrupted() throws IOException {
+		//given
+		Path path = directory.resolve("catalog.bin");
+		BinaryCatalogWriter.write(path, List.of(new PrimitiveProductInfo("물", 500, 10, "null")), List.of());
+		byte[] bytes = Files.readAllBytes(path);
+		bytes[bytes.length / 2] ^= 1;
+		Files.write(path, bytes);
+
+		//when & then
+		assertThatThrownBy(() -> BinaryCatalogLoader.load(path))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(FileValidationMessage.INVALID_CATALOG_FORMAT.getMessage());
+	}
+
+	@DisplayName("같은 이름의 프로모션이 두 번 있으면 IllegalArgumentException 예외가 발생하고 카탈로그를 만들지 않는다.")
+	@Test
+	void writeDuplicatePromotion() {
+		//given
+		Path path = directory.resolve("catalog.bin");
+		List<PrimitivePromotionInfo> promotions = List.of(
+			new PrimitivePromotionInfo("탄산2+1", 2, 1, "2000-01-01", "2099-12-31"),
+			new PrimitivePromotionInfo("탄산2+1", 1, 1, "2000-01-01", "2099-12-31"));
+		List<PrimitiveProductInfo> products = List.of(new PrimitiveProductInfo("콜라", 1000, 10, "탄산2+1"));
+
+		//when & then
+		assertThatThrownBy(() -> BinaryCatalogWriter.write(path, products, promotions))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(PromotionValidateMessage.INVALID_DUPLICATE_NAME.getMessage());
+		assertThat(Files.exists(path)).isFalse();
+	}
+}
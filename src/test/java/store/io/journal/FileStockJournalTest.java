@@ -0,0 +1,217 @@
+package store.io.journal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import store.domain.order.OrderLineItem;
+import store.domain.product.Product;
+import store.domain.stock.Stock;
+import store.domain.stock.StockDeduction;
+import store.domain.stock.StockQuantity;
+import store.validator.stock.StockValidateMessage;
+
+class FileStockJournalTest {
+	private static final int WRITER_COUNT = 32;
+	private static final int ORDERS_PER_WRITER = 20;
+
+	@TempDir
+	Path directory;
+
+	@DisplayName("기록한 재고 차감을 다시 열 때 재생하여 재고를 복원한다.")
+	@Test
+	void replay() {
+		//given
+		Path path = directory.resolve("stock.journal");
+		Stock stock = createStock();
+		FileStockJournal journal = FileStockJournal.open(path,
+			entry -> stock.replay(entry.orderId(), entry.deductions()));
+		stock.attach(journal);
+		stock.deductStocks(List.of(OrderLineItem.ofNormal("물", 3, 500)));
+		stock.deductStocks(List.of(OrderLineItem.ofNormal("콜라", 4, 1000), OrderLineItem.ofNormal("물", 1, 500)));
+		journal.close();
+
+		//when
+		Stock recoveredStock = createStock();
+		FileStockJournal.open(path, entry -> recoveredStock.replay(entry.orderId(), entry.deductions())).close();
+
+		//then
+		assertThat(recoveredStock.getProducts()).extracting(Product::getQuantity).containsExactly(6, 6);
+	}
+
+	@DisplayName("닫힌 저널에 기록하면 IllegalStateException 예외가 발생하고 차감한 재고를 되돌린다.")
+	@Test
+	void appendClosed() {
+		//given
+		Stock stock = createStock();
+		FileStockJournal journal = FileStockJournal.open(directory.resolve("stock.journal"), entry -> {
+		});
+		stock.attach(journal);
+		journal.close();
+
+		//when & then
+		assertThatThrownBy(() -> stock.deductStocks(List.of(OrderLineItem.ofNormal("물", 3, 500))))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(StockValidateMessage.INVALID_JOURNAL_CLOSED.getMessage());
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(10, 10);
+	}
+
+	@DisplayName("동시에 기록한 주문은 한 번의 동기화로 묶어서 저장한다.")
+	@Test
+	void groupCommit() throws InterruptedException {
+		//given
+		Path path = directory.resolve("stock.journal");
+		FileStockJournal journal = FileStockJournal.open(path, entry -> {
+		});
+		ExecutorService writers = Executors.newFixedThreadPool(WRITER_COUNT);
+
+		//when
+		for (int order = 1; order <= WRITER_COUNT * ORDERS_PER_WRITER; order++) {
+			long orderId = order;
+			writers.submit(() -> journal.append(orderId, List.of(new StockDeduction("물", false, 1))));
+		}
+		writers.shutdown();
+		writers.awaitTermination(30, TimeUnit.SECONDS);
+		journal.close();
+
+		//then
+		assertThat(journal.getSyncCount()).isLessThan(WRITER_COUNT * ORDERS_PER_WRITER);
+		assertThat(readEntries(path)).hasSize(WRITER_COUNT * ORDERS_PER_WRITER);
+	}
+
+	@DisplayName("마지막 기록이 중간에 끊기면 끊긴 기록을 버리고 이어서 기록한다.")
+	@Test
+	void recoverTornEntry() throws IOException {
+		//given
+		Path path = directory.resolve("stock.journal");
+		FileStockJournal journal = FileStockJournal.open(path, entry -> {
+		});
+		journal.append(1, List.of(new StockDeduction("물", false, 1)));
+		journal.close();
+		Files.write(path, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+		//when
+		FileStockJournal reopenedJournal = FileStockJournal.open(path, entry -> {
+		});
+		reopenedJournal.append(2, List.of(new StockDeduction("콜라", true, 2)));
+		reopenedJournal.close();
+
+		//then
+		assertThat(readEntries(path)).extracting(JournalEntry::orderId).containsExactly(1L, 2L);
+		assertThat(readEntries(path)).extracting(JournalEntry::sequence).containsExactly(1L, 2L);
+	}
+
+	@DisplayName("기록 중 예상하지 못한 예외가 발생해도 해당 기록만 실패시키고 이어서 기록한다.")
+	@Test
+	void appendUnexpectedFailure() throws IOException {
+		//given
+		Path path = directory.resolve("stock.journal");
+		FileStockJournal journal = FileStockJournal.open(path, entry -> {
+		});
+
+		//when & then
+		assertThatThrownBy(() -> journal.append(1, List.of(new StockDeduction(null, false, 1))))
+			.isInstanceOf(NullPointerException.class);
+		journal.append(2, List.of(new StockDeduction("물", false, 1)));
+		journal.close();
+		assertThat(readEntries(path)).extracting(JournalEntry::orderId).containsExactly(2L);
+		assertThat(readEntries(path)).extracting(JournalEntry::sequence).containsExactly(1L);
+	}
+
+	@DisplayName("정상 종료 시 스냅샷을 저장하고 저널을 비우며, 다시 열면 스냅샷으로 재고를 복원한다.")
+	@Test
+	void snapshotOnClose() throws IOException {
+		//given
+		Path path = directory.resolve("stock.journal");
+		Path snapshotPath = directory.resolve("stock.snapshot");
+		Stock stock = createStock();
+		FileStockJournal journal = FileStockJournal.open(path, snapshotPath, Duration.ofHours(1), stock);
+		stock.attach(journal);
+		stock.deductStocks(List.of(OrderLineItem.ofNormal("물", 3, 500)));
+
+		//when
+		journal.close();
+		Stock recoveredStock = createStock();
+		FileStockJournal.open(path, snapshotPath, Duration.ofHours(1), recoveredStock).close();
+
+		//then
+		assertThat(Files.size(path)).isEqualTo(0);
+		assertThat(StockSnapshot.read(snapshotPath).getSequence()).isEqualTo(1);
+		assertThat(recoveredStock.getProducts()).extracting(Product::getQuantity).containsExactly(10, 7);
+	}
+
+	@DisplayName("주기마다 스냅샷을 저장하고 스냅샷에 반영된 저널을 비운다.")
+	@Test
+	void snapshotPeriodically() throws IOException, InterruptedException {
+		//given
+		Path path = directory.resolve("stock.journal");
+		Path snapshotPath = directory.resolve("stock.snapshot");
+		Stock stock = createStock();
+		FileStockJournal journal = FileStockJournal.open(path, snapshotPath, Duration.ofMillis(10), stock);
+		stock.attach(journal);
+
+		//when
+		stock.deductStocks(List.of(OrderLineItem.ofNormal("콜라", 2, 1000)));
+		waitForCompaction(path, snapshotPath);
+
+		//then
+		assertThat(Files.size(path)).isEqualTo(0);
+		assertThat(StockSnapshot.read(snapshotPath).getQuantities())
+			.containsExactly(new StockQuantity("콜라", false, 8), new StockQuantity("물", false, 10));
+		journal.close();
+	}
+
+	@DisplayName("스냅샷 이후의 저널 기록만 재생한다.")
+	@Test
+	void replayAfterSnapshot() throws IOException {
+		//given
+		Path path = directory.resolve("stock.journal");
+		Path snapshotPath = directory.resolve("stock.snapshot");
+		FileStockJournal journal = FileStockJournal.open(path, entry -> {
+		});
+		journal.append(1, List.of(new StockDeduction("물", false, 1)));
+		journal.append(2, List.of(new StockDeduction("물", false, 2)));
+		journal.append(3, List.of(new StockDeduction("물", false, 4)));
+		journal.close();
+		StockSnapshot.of(2, List.of(new StockQuantity("물", false, 7))).write(snapshotPath);
+
+		//when
+		Stock stock = createStock();
+		FileStockJournal.open(path, snapshotPath, Duration.ofHours(1), stock).close();
+
+		//then
+		assertThat(stock.getProducts()).extracting(Product::getQuantity).containsExactly(10, 3);
+	}
+
+	private void waitForCompaction(Path path, Path snapshotPath) throws IOException, InterruptedException {
+		for (int attempt = 0; attempt < 200; attempt++) {
+			if (Files.exists(snapshotPath) && Files.size(path) == 0) {
+				return;
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	private Stock createStock() {
+		return Stock.from(List.of(Product.of("콜라", 1000, 10, null), Product.of("물", 500, 10, null)));
+	}
+
+	private List<JournalEntry> readEntries(Path path) {
+		List<JournalEntry> entries = new ArrayList<>();
+		FileStockJournal.open(path, entries::add).close();
+		return entries;
+	}
+}
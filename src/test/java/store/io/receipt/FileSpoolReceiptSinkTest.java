@@ -0,0 +1,62 @@
+package store.io.receipt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.domain.order.OrderLineItem;
+
+class FileSpoolReceiptSinkTest {
+	private static final Order ORDER = Order.of(List.of(OrderLineItem.of("콜라", 2, 1000, 0, 2, 0, false)),
+		Membership.create(), "N");
+
+	@TempDir
+	Path directory;
+
+	@DisplayName("영수증을 별도 스레드에서 파일에 쓰고, 종료 시 남은 영수증을 모두 기록한다.")
+	@Test
+	void accept() throws IOException {
+		//given
+		FileSpoolReceiptSink sink = FileSpoolReceiptSink.open(directory, 1L << 20);
+
+		//when
+		sink.accept(ORDER);
+		sink.accept(ORDER);
+		sink.close();
+
+		//then
+		String spooled = Files.readString(FileSpoolReceiptSink.spoolFile(directory, 1));
+		assertThat(spooled.split("콜라\t\t2\t2,000", -1)).hasSize(3);
+		assertThat(sink.getWrittenCount()).isEqualTo(2);
+	}
+
+	@DisplayName("파일 크기가 한도를 넘으면 다음 파일로 넘어가고, 다시 열면 마지막 파일 다음 번호부터 쓴다.")
+	@Test
+	void acceptRolling() throws IOException {
+		//given
+		FileSpoolReceiptSink sink = FileSpoolReceiptSink.open(directory, 1);
+		sink.accept(ORDER);
+		sink.accept(ORDER);
+		sink.close();
+
+		//when
+		FileSpoolReceiptSink reopened = FileSpoolReceiptSink.open(directory, 1);
+		reopened.accept(ORDER);
+		reopened.close();
+
+		//then
+		assertThat(Files.exists(FileSpoolReceiptSink.spoolFile(directory, 1))).isTrue();
+		assertThat(Files.exists(FileSpoolReceiptSink.spoolFile(directory, 2))).isTrue();
+		assertThat(Files.exists(FileSpoolReceiptSink.spoolFile(directory, 3))).isTrue();
+		assertThat(Files.exists(FileSpoolReceiptSink.spoolFile(directory, 4))).isFalse();
+	}
+}
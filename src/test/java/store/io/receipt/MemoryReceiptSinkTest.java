@@ -0,0 +1,32 @@
+package store.io.receipt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.domain.order.OrderLineItem;
+
+class MemoryReceiptSinkTest {
+	@DisplayName("받은 주문의 영수증을 순서대로 메모리에 보관한다.")
+	@Test
+	void accept() {
+		//given
+		MemoryReceiptSink sink = MemoryReceiptSink.create();
+		Order cola = Order.of(List.of(OrderLineItem.of("콜라", 2, 1000, 0, 2, 0, false)), Membership.create(), "N");
+		Order water = Order.of(List.of(OrderLineItem.of("물", 1, 500, 0, 1, 0, false)), Membership.create(), "N");
+
+		//when
+		sink.accept(cola);
+		sink.accept(water);
+
+		//then
+		assertThat(sink.getReceipts()).hasSize(2);
+		assertThat(sink.getReceipts().get(0)).contains("콜라\t\t2\t2,000");
+		assertThat(sink.getReceipts().get(1)).contains("물\t\t1\t500");
+	}
+}
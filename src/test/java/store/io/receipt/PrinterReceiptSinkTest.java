@@ -0,0 +1,107 @@
+package store.io.receipt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.membershop.Membership;
+import store.domain.order.Order;
+import store.domain.order.OrderLineItem;
+import store.validator.receipt.ReceiptValidateMessage;
+
+class PrinterReceiptSinkTest {
+	private static final Order ORDER = Order.of(List.of(OrderLineItem.of("콜라", 2, 1000, 0, 2, 0, false)),
+		Membership.create(), "N");
+
+	@DisplayName("프린터가 느려도 영수증을 대기열에 넣고 바로 반환하며, 종료 시 남은 영수증을 모두 출력한다.")
+	@Test
+	void acceptWithoutWaitingForPrinter() {
+		//given
+		List<String> papers = new CopyOnWriteArrayList<>();
+		PrinterReceiptSink sink = PrinterReceiptSink.of(4, Duration.ofMillis(200), papers::add);
+
+		//when
+		long startedAt = System.nanoTime();
+		sink.accept(ORDER);
+		sink.accept(ORDER);
+		long elapsed = System.nanoTime() - startedAt;
+		sink.close();
+
+		//then
+		assertThat(elapsed).isLessThan(Duration.ofMillis(200).toNanos());
+		assertThat(papers).hasSize(2);
+		assertThat(sink.getWrittenCount()).isEqualTo(2);
+	}
+
+	@DisplayName("프린터 대기열이 가득 차면 IllegalStateException 예외가 발생한다.")
+	@Test
+	void acceptQueueFull() throws InterruptedException {
+		//given
+		CountDownLatch printing = new CountDownLatch(1);
+		CountDownLatch jammed = new CountDownLatch(1);
+		PrinterReceiptSink sink = PrinterReceiptSink.of(1, Duration.ZERO, paper -> {
+			printing.countDown();
+			awaitQuietly(jammed);
+		});
+		sink.accept(ORDER);
+		printing.await();
+		sink.accept(ORDER);
+
+		//when & then
+		assertThatThrownBy(() -> sink.accept(ORDER))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(ReceiptValidateMessage.INVALID_PRINTER_QUEUE_FULL.getMessage());
+		jammed.countDown();
+		sink.close();
+	}
+
+	@DisplayName("종료된 프린터에 영수증을 보내면 IllegalStateException 예외가 발생한다.")
+	@Test
+	void acceptAfterClose() {
+		//given
+		PrinterReceiptSink sink = PrinterReceiptSink.of(1, Duration.ZERO, paper -> {
+		});
+		sink.close();
+
+		//when & then
+		assertThatThrownBy(() -> sink.accept(ORDER))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(ReceiptValidateMessage.INVALID_SINK_CLOSED.getMessage());
+	}
+
+	@DisplayName("영수증 출력 중 예외가 발생하면 실패로 세고 다음 영수증을 계속 출력한다.")
+	@Test
+	void acceptPrinterFailure() {
+		//given
+		AtomicInteger attempts = new AtomicInteger();
+		PrinterReceiptSink sink = PrinterReceiptSink.of(4, Duration.ZERO, paper -> {
+			if (attempts.getAndIncrement() == 0) {
+				throw new IllegalStateException();
+			}
+		});
+
+		//when
+		sink.accept(ORDER);
+		sink.accept(ORDER);
+		sink.close();
+
+		//then
+		assertThat(sink.getFailedCount()).isEqualTo(1);
+		assertThat(sink.getWrittenCount()).isEqualTo(1);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package store.session;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.ConvenienceStoreManager;
+import store.io.IoHandler;
+
+class SessionServerTest {
+	private static final int IDLE_SESSION_COUNT = 500;
+	private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(10);
+
+	private SessionServer server;
+
+	@BeforeEach
+	void setUp() {
+		ConvenienceStoreManager convenienceStoreManager = ConvenienceStoreManager.from(IoHandler.getInstance());
+		server = SessionServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+			convenienceStoreManager::serveSession);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop();
+	}
+
+	@DisplayName("접속마다 별도의 입출력으로 편의점 흐름을 실행하고, 재고는 모든 접속이 공유한다.")
+	@Test
+	void serveSession() throws IOException {
+		//when
+		String first = runSession("[물-3]\nN\nN\n");
+		String second = runSession("[물-1]\nN\nN\n");
+
+		//then
+		assertThat(first).contains("- 물 500원 10개", "물\t\t3\t1,500", "내실돈\t\t\t1,500");
+		assertThat(second).contains("- 물 500원 7개", "내실돈\t\t\t500");
+	}
+
+	@DisplayName("입력을 기다리는 접속이 많아도 접속마다 세션을 유지하고, 접속이 끊기면 세션을 정리한다.")
+	@Test
+	void serveIdleSessions() throws IOException, InterruptedException {
+		//given
+		List<Socket> sockets = new ArrayList<>();
+
+		//when
+		for (int count = 0; count < IDLE_SESSION_COUNT; count++) {
+			sockets.add(new Socket(InetAddress.getLoopbackAddress(), server.getPort()));
+		}
+		awaitSessionCount(IDLE_SESSION_COUNT);
+		int idleSessionCount = server.getSessionCount();
+		for (Socket socket : sockets) {
+			socket.close();
+		}
+		awaitSessionCount(0);
+
+		//then
+		assertThat(idleSessionCount).isEqualTo(IDLE_SESSION_COUNT);
+		assertThat(server.getSessionCount()).isEqualTo(0);
+	}
+
+	private String runSession(String input) throws IOException {
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+			OutputStream output = socket.getOutputStream();
+			output.write(input.getBytes(StandardCharsets.UTF_8));
+			output.flush();
+			InputStream sessionOutput = socket.getInputStream();
+			return new String(sessionOutput.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private void awaitSessionCount(int sessionCount) throws InterruptedException {
+		long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+		while (server.getSessionCount() != sessionCount && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+}
@@ -2,7 +2,9 @@ package store.validator;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,8 @@ import store.validator.file.FileValidationMessage;
 import store.validator.file.ProductFileValidatingParser;
 
 class ProductFileValidatingParserTest {
+	private static final int LARGE_LINE_COUNT = 50_000;
+
 	@DisplayName("상품의 첫번째 줄을 ','(콤마)로 나눈 길이와 열의 길이가 같지 않으면 IllegalArgumentException 예외가 발생한다.")
 	@Test
 	void validateFirstLine() {
@@ -51,6 +55,20 @@ class ProductFileValidatingParserTest {
 		assertThat(result).containsExactlyElementsOf(expect);
 	}
 
+	@DisplayName("상품 한 줄을 한 번만 나누어 원시 상품 정보를 반환하고, 끝의 빈 열은 무시한다.")
+	@Test
+	void parseLine() {
+		//given
+		ProductFileValidatingParser productFileValidatingParser = ProductFileValidatingParser.getInstance();
+		String line = "콜라,1000,10,탄산2+1,,";
+
+		//when
+		PrimitiveProductInfo result = productFileValidatingParser.parseLine(line);
+
+		//then
+		assertThat(result).isEqualTo(new PrimitiveProductInfo("콜라", 1000, 10, "탄산2+1"));
+	}
+
 	@DisplayName("상품을 ','(콤마)로 나눈 길이와 열의 길이가 같지 않으면 IllegalArgumentException 예외가 발생한다.")
 	@Test
 	void processLineNotSize() {
@@ -176,4 +194,42 @@ class ProductFileValidatingParserTest {
 			.isInstanceOf(IllegalArgumentException.class)
 			.hasMessage(FileValidationMessage.INVALID_PRODUCT_QUANTITY_MIN_NUMBER.getMessage());
 	}
-}
\ No newline at end of file
+
+	@DisplayName("큰 상품 파일을 나누어 병렬로 변환해도 원래 순서대로 반환한다.")
+	@Test
+	void processLineInParallel() {
+		//given
+		ProductFileValidatingParser productFileValidatingParser = ProductFileValidatingParser.getInstance();
+		List<String> allLine = createLines(LARGE_LINE_COUNT);
+
+		//when
+		List<PrimitiveProductInfo> result = productFileValidatingParser.processLine(allLine);
+
+		//then
+		assertThat(result).hasSize(LARGE_LINE_COUNT);
+		assertThat(result).extracting(PrimitiveProductInfo::quantity)
+			.containsExactlyElementsOf(IntStream.range(0, LARGE_LINE_COUNT).boxed().toList());
+	}
+
+	@DisplayName("병렬로 변환할 때 여러 줄이 잘못되었다면 파일에서 가장 앞선 줄의 예외가 발생한다.")
+	@Test
+	void processLineInParallelFirstError() {
+		//given
+		ProductFileValidatingParser productFileValidatingParser = ProductFileValidatingParser.getInstance();
+		List<String> allLine = createLines(LARGE_LINE_COUNT);
+		allLine.set(LARGE_LINE_COUNT - 10, "콜라,1000,-1,null");
+		allLine.set(LARGE_LINE_COUNT / 2, "콜라,천원,10,null");
+
+		//when & then
+		assertThatThrownBy(() -> productFileValidatingParser.processLine(allLine))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(FileValidationMessage.INVALID_PRODUCT_PRICE_NUMBER.getMessage());
+	}
+
+	private List<String> createLines(int count) {
+		List<String> lines = new ArrayList<>();
+		lines.add("name,price,quantity,promotion");
+		IntStream.range(0, count).forEach(index -> lines.add("상품" + index + ",1000," + index + ",null"));
+		return lines;
+	}
+}
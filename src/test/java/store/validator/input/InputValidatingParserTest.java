@@ -132,4 +132,31 @@ class InputValidatingParserTest {
 			.isInstanceOf(IllegalArgumentException.class)
 			.hasMessage(InputValidationMessage.INVALID_ORDER_LIST_FORMAT.getMessage());
 	}
-}
\ No newline at end of file
+
+	@DisplayName("문자열 버퍼로 받은 주문 상품 목록도 복사 없이 한 번에 파싱한다.")
+	@Test
+	void validatedOrderItemsCharSequence() {
+		//given
+		InputValidatingParser inputValidatingParser = InputValidatingParser.getInstance();
+		StringBuilder input = new StringBuilder("[콜라-2],[사이다-+10],");
+
+		//when
+		List<OrderItem> result = inputValidatingParser.validatedOrderItems(input);
+
+		//then
+		assertThat(result).containsExactly(new OrderItem("콜라", 2), new OrderItem("사이다", 10));
+	}
+
+	@DisplayName("주문 수량이 int 범위를 넘어서면 예외가 발생한다")
+	@Test
+	void validateIntOverFlow() {
+		//given
+		InputValidatingParser inputValidatingParser = InputValidatingParser.getInstance();
+		String input = "[콜라-2147483648]";
+
+		//when & then
+		assertThatThrownBy(() -> inputValidatingParser.validatedOrderItems(input))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(InputValidationMessage.INVALID_ORDER_LIST_FORMAT.getMessage());
+	}
+}